@@ -0,0 +1,63 @@
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * WebDriverWait that times every until() call and files it under the calling
+ * step (Class.method). The timeout of each call comes from StepLatencies,
+ * so one wait field serves steps with different learned timeouts.
+ * Timeouts never reach past the suite deadline (TimeBudget).
+ */
+public class AdaptiveWait extends WebDriverWait {
+
+    private Duration fallback;
+
+    public AdaptiveWait(WebDriver driver, Duration fallback) {
+        super(driver, fallback);
+        this.fallback = fallback;
+    }
+
+    /**
+     * Reuse this wait with another fixed timeout instead of building a new one
+     */
+    public AdaptiveWait withFallback(Duration fallback) {
+        this.fallback = fallback;
+        return this;
+    }
+
+    @Override
+    public <V> V until(Function<? super WebDriver, V> isTrue) {
+        String step = callerStep();
+        Duration timeout = TimeBudget.clamp(StepLatencies.timeoutFor(step, fallback));
+        withTimeout(timeout);
+        long start = System.currentTimeMillis();
+        try {
+            V result = super.until(isTrue);
+            StepLatencies.record(step, System.currentTimeMillis() - start);
+            return result;
+        } catch (TimeoutException e) {
+            // Not a latency: absence checks time out by design and would only push the timeout up
+            StepLatencies.recordTimeout(step);
+            throw e;
+        }
+    }
+
+    /**
+     * Timeout the next until() from the calling step will use
+     */
+    public Duration currentTimeout() {
+        return TimeBudget.clamp(StepLatencies.timeoutFor(callerStep(), fallback));
+    }
+
+    private static String callerStep() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(f -> !f.getClassName().equals(AdaptiveWait.class.getName()))
+                .filter(f -> !f.getClassName().startsWith("org.openqa."))
+                .findFirst()
+                .map(f -> f.getClassName() + "." + f.getMethodName())
+                .orElse("unknown"));
+    }
+}
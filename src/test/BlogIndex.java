@@ -0,0 +1,418 @@
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Local copy of every blog post (title, excerpt, category, body) with an inverted
+ * index over it. The listing is walked with PaginationWalker (title and excerpt come
+ * from the cards), each post is fetched over HTTP on a virtual thread (per-host limit
+ * shared with LinkChecker) and parsed with jsoup for the category and body.
+ * Posts and postings are saved to logs/blog-index.bin, so later runs load the
+ * snapshot instead of crawling. Used by BlogSearchOracle.
+ */
+public final class BlogIndex {
+
+    static final Path INDEX_FILE = Paths.get("logs", "blog-index.bin");
+    private static final int MAGIC = 0x534C4249;
+
+    private static final String CATEGORY_SELECTOR = "a[href*='categor'], [class*='category'], [data-slot='badge']";
+
+    private static final HttpClient HTTP = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+
+    /**
+     * Which post fields a search is expected to look at
+     */
+    public enum Scope {
+        TITLE, CARD, FULL;
+
+        String text(BlogIndex index, int doc) {
+            switch (this) {
+                case TITLE:
+                    return index.titleText[doc];
+                case CARD:
+                    return index.cardText[doc];
+                default:
+                    return index.fullText[doc];
+            }
+        }
+    }
+
+    private final long crawledAt;
+    private final List<String> hrefs;
+    private final List<String> titles;
+    private final List<String> excerpts;
+    private final List<String> categories;
+    private final List<String> bodies;
+    // term -> posts containing it in any field
+    private final Map<String, BitSet> postings;
+
+    // Normalized (lower case, single spaces) text per scope
+    private final String[] titleText;
+    private final String[] cardText;
+    private final String[] fullText;
+    // query token -> union of postings of every term containing it
+    private final Map<String, BitSet> tokenCache = new ConcurrentHashMap<>();
+
+    private BlogIndex(long crawledAt, List<String> hrefs, List<String> titles, List<String> excerpts,
+                      List<String> categories, List<String> bodies, Map<String, BitSet> postings) {
+        this.crawledAt = crawledAt;
+        this.hrefs = hrefs;
+        this.titles = titles;
+        this.excerpts = excerpts;
+        this.categories = categories;
+        this.bodies = bodies;
+        this.postings = postings;
+        this.titleText = new String[hrefs.size()];
+        this.cardText = new String[hrefs.size()];
+        this.fullText = new String[hrefs.size()];
+        for (int doc = 0; doc < hrefs.size(); doc++) {
+            titleText[doc] = normalize(titles.get(doc));
+            cardText[doc] = normalize(titles.get(doc) + " " + excerpts.get(doc) + " " + categories.get(doc));
+            fullText[doc] = normalize(cardText[doc] + " " + bodies.get(doc));
+        }
+    }
+
+    static BlogIndex build(List<String> hrefs, List<String> titles, List<String> excerpts,
+                           List<String> categories, List<String> bodies) {
+        Map<String, BitSet> postings = new HashMap<>();
+        for (int doc = 0; doc < hrefs.size(); doc++) {
+            String all = titles.get(doc) + " " + excerpts.get(doc) + " " + categories.get(doc) + " " + bodies.get(doc);
+            for (String term : tokenize(all)) {
+                postings.computeIfAbsent(term, key -> new BitSet()).set(doc);
+            }
+        }
+        return new BlogIndex(System.currentTimeMillis(), hrefs, titles, excerpts, categories, bodies, postings);
+    }
+
+    // ==================== CRAWL ====================
+
+    /**
+     * Walk the blog listing, fetch every post and save the index
+     */
+    public static BlogIndex crawl() {
+        long startTime = System.currentTimeMillis();
+        PaginationWalker.Walk walk = walkListing();
+        if (walk.error != null) {
+            System.err.println("⚠️ Blog listing: " + walk.error);
+        }
+        List<String> hrefs = walk.hrefs();
+        System.out.println("📚 " + hrefs.size() + " blog posts listed, fetching bodies...");
+
+        List<String> titles = new ArrayList<>();
+        List<String> excerpts = new ArrayList<>();
+        for (String href : hrefs) {
+            Map<String, Object> card = walk.cards.get(href);
+            String name = String.valueOf(card.get("name")).trim();
+            titles.add(name);
+            String text = String.valueOf(card.get("text"));
+            excerpts.add((name.isEmpty() ? text : text.replace(name, " ")).trim());
+        }
+
+        String[][] details = new String[hrefs.size()][];
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < hrefs.size(); i++) {
+                int doc = i;
+                futures.add(executor.submit(() -> details[doc] = fetchDetail(hrefs.get(doc))));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (Exception e) {
+                    System.err.println("❌ Blog fetch failed: " + e.getMessage());
+                }
+            }
+        }
+
+        List<String> categories = new ArrayList<>();
+        List<String> bodies = new ArrayList<>();
+        int failed = 0;
+        for (int doc = 0; doc < hrefs.size(); doc++) {
+            String[] detail = details[doc] == null ? new String[]{"", "", ""} : details[doc];
+            if (details[doc] == null) {
+                failed++;
+            }
+            if (titles.get(doc).isEmpty()) {
+                titles.set(doc, detail[0]);
+            }
+            categories.add(detail[1]);
+            bodies.add(detail[2]);
+        }
+
+        BlogIndex index = build(hrefs, titles, excerpts, categories, bodies);
+        index.save();
+        System.out.println("✅ Blog index: " + index.size() + " posts, " + index.postings.size() + " terms"
+                + (failed == 0 ? "" : ", " + failed + " bodies not fetched")
+                + " in " + (System.currentTimeMillis() - startTime) / 1000 + " s");
+        return index;
+    }
+
+    private static PaginationWalker.Walk walkListing() {
+        PaginationWalker.Target blogs = PaginationWalker.TARGETS.stream()
+                .filter(target -> target.name.equals("Blogs"))
+                .findFirst()
+                .orElseThrow();
+        BrowserContextPool pool = BrowserContextPool.launch(1);
+        try {
+            BrowserContextPool.Lease lease = pool.acquire("blog-index");
+            try {
+                return PaginationWalker.walk(lease.getDriver(), blogs);
+            } finally {
+                pool.release(lease);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while walking the blog listing", e);
+        } finally {
+            pool.close();
+        }
+    }
+
+    /**
+     * {h1, category, body} of one post, null if it could not be fetched
+     */
+    private static String[] fetchDetail(String url) {
+        Semaphore slots = LinkChecker.hostSlot(URI.create(url).getHost());
+        try {
+            slots.acquire();
+            try {
+                HttpResponse<String> response = HTTP.send(HttpRequest.newBuilder(URI.create(url))
+                        .timeout(Duration.ofSeconds(15))
+                        .header("User-Agent", "Mozilla/5.0 StudyLeoAutomation blog index")
+                        .GET()
+                        .build(), HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() != 200) {
+                    System.err.println("⚠️ HTTP " + response.statusCode() + " " + url);
+                    return null;
+                }
+                Document document = Jsoup.parse(response.body(), url);
+                Element h1 = document.selectFirst("h1");
+                String category = "";
+                for (Element element : document.select(CATEGORY_SELECTOR)) {
+                    String text = element.text().trim();
+                    if (!text.isEmpty() && text.length() <= 60) {
+                        category = text;
+                        break;
+                    }
+                }
+                Element content = document.selectFirst("article");
+                if (content == null) {
+                    content = document.selectFirst("main");
+                }
+                String body = "";
+                if (content != null) {
+                    content.select("h1, nav, header, footer, script, style").remove();
+                    body = content.text();
+                }
+                return new String[]{h1 == null ? "" : h1.text().trim(), category, body};
+            } finally {
+                slots.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            System.err.println("⚠️ " + url + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    // ==================== SEARCH ====================
+
+    /**
+     * Posts whose scope text contains the query (case-insensitive, substring match).
+     * Postings narrow the candidates first; only those are checked against the text.
+     */
+    public BitSet search(String query, Scope scope) {
+        String phrase = normalize(query);
+        BitSet result = new BitSet();
+        result.set(0, size());
+        for (String token : tokenize(phrase)) {
+            result.and(postingsContaining(token));
+        }
+        for (int doc = result.nextSetBit(0); doc >= 0; doc = result.nextSetBit(doc + 1)) {
+            if (!scope.text(this, doc).contains(phrase)) {
+                result.clear(doc);
+            }
+        }
+        return result;
+    }
+
+    private BitSet postingsContaining(String token) {
+        return tokenCache.computeIfAbsent(token, key -> {
+            BitSet union = new BitSet();
+            for (Map.Entry<String, BitSet> entry : postings.entrySet()) {
+                if (entry.getKey().contains(key)) {
+                    union.or(entry.getValue());
+                }
+            }
+            return union;
+        });
+    }
+
+    /**
+     * Terms by the number of titles they appear in, most frequent first
+     */
+    List<String> frequentTitleTerms() {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String title : titles) {
+            for (String term : new HashSet<>(tokenize(title))) {
+                counts.merge(term, 1, Integer::sum);
+            }
+        }
+        List<String> terms = new ArrayList<>(counts.keySet());
+        terms.sort((a, b) -> counts.get(b).equals(counts.get(a)) ? a.compareTo(b) : counts.get(b) - counts.get(a));
+        return terms;
+    }
+
+    public int size() {
+        return hrefs.size();
+    }
+
+    public String href(int doc) {
+        return hrefs.get(doc);
+    }
+
+    public String title(int doc) {
+        return titles.get(doc);
+    }
+
+    public long getCrawledAt() {
+        return crawledAt;
+    }
+
+    static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT).replaceAll("\\s+", " ").trim();
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String term : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    // ==================== FILE ====================
+
+    void save() {
+        try {
+            Files.createDirectories(INDEX_FILE.getParent());
+            Path temp = INDEX_FILE.resolveSibling(INDEX_FILE.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeLong(crawledAt);
+                out.writeInt(size());
+                for (int doc = 0; doc < size(); doc++) {
+                    writeText(out, hrefs.get(doc));
+                    writeText(out, titles.get(doc));
+                    writeText(out, excerpts.get(doc));
+                    writeText(out, categories.get(doc));
+                    writeText(out, bodies.get(doc));
+                }
+                out.writeInt(postings.size());
+                for (Map.Entry<String, BitSet> entry : postings.entrySet()) {
+                    writeText(out, entry.getKey());
+                    long[] words = entry.getValue().toLongArray();
+                    out.writeInt(words.length);
+                    for (long word : words) {
+                        out.writeLong(word);
+                    }
+                }
+            }
+            Files.move(temp, INDEX_FILE, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            System.out.println("💾 Blog index saved: " + INDEX_FILE + " (" + Files.size(INDEX_FILE) / 1024 + " KB)");
+        } catch (IOException e) {
+            System.err.println("⚠️ Could not save blog index: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Read the index file, null if there is none or it cannot be read
+     */
+    public static BlogIndex load() {
+        if (!Files.exists(INDEX_FILE)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(INDEX_FILE)))) {
+            if (in.readInt() != MAGIC) {
+                System.err.println("⚠️ " + INDEX_FILE + " has an unknown format - crawl it again");
+                return null;
+            }
+            long crawledAt = in.readLong();
+            int size = in.readInt();
+            List<String> hrefs = new ArrayList<>(size);
+            List<String> titles = new ArrayList<>(size);
+            List<String> excerpts = new ArrayList<>(size);
+            List<String> categories = new ArrayList<>(size);
+            List<String> bodies = new ArrayList<>(size);
+            for (int doc = 0; doc < size; doc++) {
+                hrefs.add(readText(in));
+                titles.add(readText(in));
+                excerpts.add(readText(in));
+                categories.add(readText(in));
+                bodies.add(readText(in));
+            }
+            int terms = in.readInt();
+            Map<String, BitSet> postings = new HashMap<>(terms * 2);
+            for (int i = 0; i < terms; i++) {
+                String term = readText(in);
+                long[] words = new long[in.readInt()];
+                for (int w = 0; w < words.length; w++) {
+                    words[w] = in.readLong();
+                }
+                postings.put(term, BitSet.valueOf(words));
+            }
+            return new BlogIndex(crawledAt, hrefs, titles, excerpts, categories, bodies, postings);
+        } catch (IOException e) {
+            System.err.println("⚠️ Could not read blog index: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // Post bodies can pass writeUTF's 64 KB limit
+    private static void writeText(DataOutputStream out, String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readText(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,465 @@
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Blog search results compared with the local BlogIndex (-Dstudyleo.blogOracle=true
+ * for BlogsTest). [B] loads logs/blog-index.bin (crawls it when missing or with
+ * -Dstudyleo.blogIndexRebuild=true), then runs many queries on the site in parallel
+ * browser contexts (-Dstudyleo.sweepWorkers), reads every result page and reports
+ * precision and recall per scope (title / card / full text). Queries come from
+ * -Dstudyleo.blogQueries (comma separated) or from the most frequent title terms,
+ * -Dstudyleo.blogQueryCount of them (default 200).
+ */
+public final class BlogSearchOracle {
+
+    private static final String LINK_PART = "/blogs/";
+    private static final String QUERY_MARK = "__query__";
+    // The list re-renders after typing; it is final once unchanged for this long
+    private static final long SETTLE_MILLIS = 1000;
+
+    private static BlogSearchOracle instance;
+    private static boolean loaded;
+    // "/blogs?search=__query__" once the site is seen to put the query in the URL
+    private static volatile String searchPath;
+
+    private final BlogIndex index;
+    private final BlogIndex.Scope scope;
+
+    BlogSearchOracle(BlogIndex index, BlogIndex.Scope scope) {
+        this.index = index;
+        this.scope = scope;
+    }
+
+    /**
+     * Oracle from the index file, or null when disabled or no index was crawled yet
+     */
+    public static synchronized BlogSearchOracle get() {
+        if (!loaded) {
+            loaded = true;
+            if (SuiteConfig.flag("blogOracle")) {
+                BlogIndex index = BlogIndex.load();
+                if (index == null) {
+                    System.err.println("⚠️ No blog index in " + BlogIndex.INDEX_FILE + " - run [B] first, oracle disabled");
+                } else {
+                    instance = new BlogSearchOracle(index, configuredScope());
+                }
+            }
+        }
+        return instance;
+    }
+
+    private static BlogIndex.Scope configuredScope() {
+        String value = SuiteConfig.value("blogSearchScope", "card");
+        try {
+            return BlogIndex.Scope.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            System.err.println("⚠️ Unknown blogSearchScope \"" + value + "\" - using card");
+            return BlogIndex.Scope.CARD;
+        }
+    }
+
+    public Comparison compare(String query, Collection<String> siteHrefs) {
+        return compare(index, query, siteHrefs, scope);
+    }
+
+    static Comparison compare(BlogIndex index, String query, Collection<String> siteHrefs, BlogIndex.Scope scope) {
+        long start = System.nanoTime();
+        BitSet expected = index.search(query, scope);
+        long micros = (System.nanoTime() - start) / 1000;
+
+        Comparison comparison = new Comparison(query, scope, micros);
+        Set<String> site = new LinkedHashSet<>();
+        for (String href : siteHrefs) {
+            site.add(normalize(href));
+        }
+        Map<String, Integer> indexed = new HashMap<>();
+        for (int doc = 0; doc < index.size(); doc++) {
+            indexed.put(normalize(index.href(doc)), doc);
+        }
+        for (int doc = expected.nextSetBit(0); doc >= 0; doc = expected.nextSetBit(doc + 1)) {
+            String href = normalize(index.href(doc));
+            comparison.expected++;
+            if (site.contains(href)) {
+                comparison.truePositives++;
+            } else {
+                comparison.missing.add(href);
+            }
+        }
+        for (String href : site) {
+            Integer doc = indexed.get(href);
+            if (doc == null) {
+                // Published after the crawl: neither right nor wrong
+                comparison.unindexed.add(href);
+            } else if (!expected.get(doc)) {
+                comparison.extra.add(href);
+            }
+        }
+        comparison.returned = site.size() - comparison.unindexed.size();
+        return comparison;
+    }
+
+    private static String normalize(String href) {
+        String url = href.split("[#?]")[0];
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    // ==================== SITE ====================
+
+    /**
+     * Every result href from the current, already filtered blog list (all pages)
+     */
+    static List<String> siteResults(WebDriver driver, PageActions actions) {
+        List<String> hrefs = new ArrayList<>();
+        for (Map<String, Object> card : settledCards(driver)) {
+            hrefs.add(String.valueOf(card.get("href")));
+        }
+        while (SortVerifier.nextPage(driver, actions, LINK_PART)) {
+            for (Map<String, Object> card : CatalogueMirror.readCards(driver, LINK_PART)) {
+                hrefs.add(String.valueOf(card.get("href")));
+            }
+        }
+        return hrefs;
+    }
+
+    /**
+     * siteResults, then back to page 1 of the same results, so the caller (BlogsTest)
+     * continues on the page it was on
+     */
+    static List<String> siteResultsInPlace(WebDriver driver, PageActions actions) {
+        List<String> hrefs = siteResults(driver, actions);
+        if (hrefs.isEmpty()) {
+            return hrefs;
+        }
+        String first = hrefs.get(0);
+        for (int step = 0; step < hrefs.size() && !first.equals(firstHref(driver)); step++) {
+            WebElement back = pageOneLink(driver);
+            if (back == null) {
+                List<WebElement> previous = LocatorRegistry.findNow(driver, LocatorRegistry.PAGINATION_PREVIOUS);
+                if (previous.isEmpty()) {
+                    throw new IllegalStateException("cannot return to the first result page");
+                }
+                back = previous.get(0);
+            }
+            String before = firstHref(driver);
+            actions.click(back);
+            new AdaptiveWait(driver, Duration.ofSeconds(10)).until(d -> {
+                String now = firstHref(d);
+                return now != null && !now.equals(before);
+            });
+        }
+        return hrefs;
+    }
+
+    private static WebElement pageOneLink(WebDriver driver) {
+        for (WebElement link : LocatorRegistry.findNow(driver, LocatorRegistry.PAGINATION_LINKS)) {
+            if ("1".equals(link.getText().trim())) {
+                return link;
+            }
+        }
+        return null;
+    }
+
+    private static String firstHref(WebDriver driver) {
+        List<Map<String, Object>> cards = CatalogueMirror.readCards(driver, LINK_PART);
+        return cards.isEmpty() ? null : String.valueOf(cards.get(0).get("href"));
+    }
+
+    private static List<String> searchOnSite(WebDriver driver, PageActions actions, String query) {
+        String encoded = URLEncoder.encode(query, StandardCharsets.UTF_8);
+        String path = searchPath;
+        if (path != null) {
+            SiteBootstrap.openDirect(driver, path.replace(QUERY_MARK, encoded));
+        } else {
+            SiteBootstrap.openDirect(driver, "/blogs");
+            settledCards(driver);
+            WebElement box = LocatorRegistry.await(driver, LocatorRegistry.BLOGS_SEARCH_BOX);
+            actions.type(box, query);
+            learnSearchPath(driver.getCurrentUrl(), query, encoded);
+        }
+        return siteResults(driver, actions);
+    }
+
+    /**
+     * When typing puts the query into the URL, later queries open the result page directly
+     */
+    private static void learnSearchPath(String url, String query, String encoded) {
+        if (searchPath != null || !url.startsWith(SiteBootstrap.SITE_URL)) {
+            return;
+        }
+        String path = url.substring(SiteBootstrap.SITE_URL.length());
+        for (String form : List.of(encoded, query.replace(" ", "%20"))) {
+            if (path.contains("=" + form)) {
+                searchPath = path.replace("=" + form, "=" + QUERY_MARK);
+                System.out.println("🔎 Search is addressable by URL: " + searchPath);
+                return;
+            }
+        }
+    }
+
+    private static List<Map<String, Object>> settledCards(WebDriver driver) {
+        List<List<String>> last = new ArrayList<>(Collections.singletonList(null));
+        long[] stableSince = {System.currentTimeMillis()};
+        return new AdaptiveWait(driver, Duration.ofSeconds(10)).until(d -> {
+            List<Map<String, Object>> cards = CatalogueMirror.readCards(d, LINK_PART);
+            List<String> hrefs = new ArrayList<>();
+            for (Map<String, Object> card : cards) {
+                hrefs.add(String.valueOf(card.get("href")));
+            }
+            long now = System.currentTimeMillis();
+            if (!hrefs.equals(last.get(0))) {
+                last.set(0, hrefs);
+                stableSince[0] = now;
+                return null;
+            }
+            return now - stableSince[0] >= SETTLE_MILLIS ? cards : null;
+        });
+    }
+
+    // ==================== RUN ====================
+
+    public static void run() {
+        long startTime = System.currentTimeMillis();
+        BlogIndex index = SuiteConfig.flag("blogIndexRebuild") ? null : BlogIndex.load();
+        if (index == null) {
+            index = BlogIndex.crawl();
+        } else {
+            System.out.println("📚 Blog index loaded: " + index.size() + " posts from " + BlogIndex.INDEX_FILE);
+        }
+        if (index.size() == 0) {
+            System.err.println("❌ Blog index is empty - nothing to compare");
+            return;
+        }
+        List<String> queries = queries(index);
+        System.out.println("🔎 " + queries.size() + " queries, " + SuiteConfig.intValue("sweepWorkers", 3) + " workers");
+
+        BrowserContextPool pool = BrowserContextPool.launch(SuiteConfig.intValue("sweepWorkers", 3));
+        ExecutorService executor = Executors.newFixedThreadPool(pool.getMaxContexts());
+        List<QueryResult> results = Collections.synchronizedList(new ArrayList<>());
+        try {
+            Queue<String> queue = new ConcurrentLinkedQueue<>(queries);
+            BlogIndex shared = index;
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < pool.getMaxContexts(); i++) {
+                String owner = "blog-search-" + (i + 1);
+                futures.add(executor.submit(() -> {
+                    work(pool, owner, shared, queue, results);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (Exception e) {
+                    System.err.println("❌ Blog search worker failed: " + e.getMessage());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+            pool.close();
+        }
+        printReport(index, results, (System.currentTimeMillis() - startTime) / 1000);
+    }
+
+    private static List<String> queries(BlogIndex index) {
+        String configured = SuiteConfig.value("blogQueries", "");
+        Set<String> queries = new LinkedHashSet<>();
+        if (!configured.isBlank()) {
+            for (String query : configured.split(",")) {
+                if (!query.isBlank()) {
+                    queries.add(query.trim());
+                }
+            }
+            return new ArrayList<>(queries);
+        }
+        int count = Math.max(1, SuiteConfig.intValue("blogQueryCount", 200));
+        // BlogsTest's query first, then what the titles talk about most
+        queries.add("medicine");
+        for (String term : index.frequentTitleTerms()) {
+            if (queries.size() >= count) {
+                break;
+            }
+            if (term.length() >= 4 && !term.chars().allMatch(Character::isDigit)) {
+                queries.add(term);
+            }
+        }
+        return new ArrayList<>(queries);
+    }
+
+    private static void work(BrowserContextPool pool, String owner, BlogIndex index,
+                             Queue<String> queue, List<QueryResult> results) throws InterruptedException {
+        BrowserContextPool.Lease lease = pool.acquire(owner);
+        try {
+            WebDriver driver = lease.getDriver();
+            PageActions actions = new PageActions(driver);
+            String query;
+            while ((query = queue.poll()) != null) {
+                QueryResult result = new QueryResult(query);
+                long start = System.currentTimeMillis();
+                try {
+                    List<String> site = searchOnSite(driver, actions, query);
+                    for (BlogIndex.Scope scope : BlogIndex.Scope.values()) {
+                        result.comparisons.add(compare(index, query, site, scope));
+                    }
+                } catch (Exception e) {
+                    result.error = e.getClass().getSimpleName() + ": " + e.getMessage();
+                }
+                result.siteMillis = System.currentTimeMillis() - start;
+                results.add(result);
+            }
+        } finally {
+            pool.release(lease);
+        }
+    }
+
+    // ==================== REPORT ====================
+
+    private static void printReport(BlogIndex index, List<QueryResult> results, long seconds) {
+        System.out.println("\n================== BLOG SEARCH ==================");
+        int errors = 0;
+        long siteMillis = 0;
+        long indexMicros = 0;
+        int compared = 0;
+        int[][] totals = new int[BlogIndex.Scope.values().length][4];
+        synchronized (results) {
+            for (QueryResult r : results) {
+                if (r.error != null) {
+                    errors++;
+                    System.out.println("   ⚠️ \"" + r.query + "\": " + r.error);
+                    continue;
+                }
+                compared++;
+                siteMillis += r.siteMillis;
+                for (Comparison c : r.comparisons) {
+                    int[] t = totals[c.scope.ordinal()];
+                    t[0] += c.truePositives;
+                    t[1] += c.returned;
+                    t[2] += c.expected;
+                    t[3] += c.exact() ? 1 : 0;
+                    indexMicros += c.micros;
+                }
+            }
+        }
+        System.out.println("Index: " + index.size() + " posts | queries: " + results.size() + " | errors: " + errors);
+        System.out.println("Scope   precision  recall  exact");
+        BlogIndex.Scope best = null;
+        double bestF1 = -1;
+        for (BlogIndex.Scope scope : BlogIndex.Scope.values()) {
+            int[] t = totals[scope.ordinal()];
+            double precision = t[1] == 0 ? 1.0 : t[0] / (double) t[1];
+            double recall = t[2] == 0 ? 1.0 : t[0] / (double) t[2];
+            double f1 = precision + recall == 0 ? 0 : 2 * precision * recall / (precision + recall);
+            if (f1 > bestF1) {
+                bestF1 = f1;
+                best = scope;
+            }
+            System.out.printf("%-7s %9.3f %7.3f  %d/%d\n", scope.name().toLowerCase(Locale.ROOT),
+                    precision, recall, t[3], compared);
+        }
+        if (compared > 0) {
+            System.out.println("Best fit: " + best.name().toLowerCase(Locale.ROOT)
+                    + " (-Dstudyleo.blogSearchScope for BlogsTest)");
+            printWorst(results, best);
+            System.out.printf("Site: %.0f ms/query | index: %.0f µs/query\n",
+                    siteMillis / (double) compared, indexMicros / (double) (compared * BlogIndex.Scope.values().length));
+        }
+        System.out.println("Duration: " + seconds + " s");
+        System.out.println("=================================================");
+    }
+
+    private static void printWorst(List<QueryResult> results, BlogIndex.Scope scope) {
+        List<Comparison> mismatches = new ArrayList<>();
+        synchronized (results) {
+            for (QueryResult r : results) {
+                for (Comparison c : r.comparisons) {
+                    if (c.scope == scope && !c.exact()) {
+                        mismatches.add(c);
+                    }
+                }
+            }
+        }
+        mismatches.sort(Comparator.comparingInt(c -> -(c.missing.size() + c.extra.size())));
+        for (Comparison c : mismatches.subList(0, Math.min(10, mismatches.size()))) {
+            System.out.println("   ❌ \"" + c.query + "\": " + c);
+            for (String href : c.missing.subList(0, Math.min(3, c.missing.size()))) {
+                System.out.println("      missing " + href);
+            }
+            for (String href : c.extra.subList(0, Math.min(3, c.extra.size()))) {
+                System.out.println("      extra   " + href);
+            }
+        }
+        if (mismatches.size() > 10) {
+            System.out.println("   ... and " + (mismatches.size() - 10) + " more");
+        }
+    }
+
+    /**
+     * Site result set vs. the index for one query and scope
+     */
+    public static final class Comparison {
+        final String query;
+        final BlogIndex.Scope scope;
+        final long micros;
+        final List<String> missing = new ArrayList<>();
+        final List<String> extra = new ArrayList<>();
+        final List<String> unindexed = new ArrayList<>();
+        int truePositives;
+        int returned;
+        int expected;
+
+        Comparison(String query, BlogIndex.Scope scope, long micros) {
+            this.query = query;
+            this.scope = scope;
+            this.micros = micros;
+        }
+
+        public double precision() {
+            return returned == 0 ? 1.0 : truePositives / (double) returned;
+        }
+
+        public double recall() {
+            return expected == 0 ? 1.0 : truePositives / (double) expected;
+        }
+
+        public boolean exact() {
+            return missing.isEmpty() && extra.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("precision %.2f, recall %.2f (site %d, expected %d%s, %d µs)",
+                    precision(), recall(), returned, expected,
+                    unindexed.isEmpty() ? "" : ", " + unindexed.size() + " not in the index", micros);
+        }
+    }
+
+    private static final class QueryResult {
+        final String query;
+        final List<Comparison> comparisons = new ArrayList<>();
+        long siteMillis;
+        String error;
+
+        QueryResult(String query) {
+            this.query = query;
+        }
+    }
+}
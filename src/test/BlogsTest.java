@@ -9,10 +9,8 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 import io.github.bonigarcia.wdm.WebDriverManager;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
-import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.IOException;
@@ -23,12 +21,13 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 
-public class BlogsTest {
+public class BlogsTest implements SuiteTest {
 
     private WebDriver driver;
     private WebDriverWait wait;
     private WebDriverWait shortWait;
     private JavascriptExecutor js;
+    private PageActions actions;
 
     private static final String SITE_URL = "https://studyleo.com/en";
 
@@ -42,28 +41,33 @@ public class BlogsTest {
     private String screenshotFolder;
 
     // Locators
-    private By acceptCookiesButton = By.cssSelector("button[data-testid='cookie-banner-accept-button']");
-    private By blogsLink = By.cssSelector("a[data-slot='navigation-menu-link'][href='/en/blogs']");
+    private By acceptCookiesButton = LocatorRegistry.COOKIE_ACCEPT;
+    private By blogsLink = LocatorRegistry.NAV_BLOGS;
     
     // Search box
-    private By searchBox = By.cssSelector("input[data-slot='input'][aria-label='Search Blogs']");
+    private By searchBox = LocatorRegistry.BLOGS_SEARCH_BOX;
     
     // Reset button - JavaScript click required
-    private By resetButton = By.xpath("//button[@data-slot='button']//span[normalize-space(text())='Reset']");
+    private By resetButton = LocatorRegistry.RESET_BUTTON;
     
     // Pagination
-    private By paginationLinks = By.cssSelector("a[data-slot='pagination-link']");
+    private By paginationLinks = LocatorRegistry.PAGINATION_LINKS;
     
     // Blog card
-    private By firstBlogCard = By.cssSelector("main section div div a[href*='/blogs/']");
+    private By firstBlogCard = LocatorRegistry.BLOGS_FIRST_CARD;
     
     // Next page button
-    private By nextPageButton = By.cssSelector("a[data-slot='pagination-link'][aria-label='Go to next page']");
+    private By nextPageButton = LocatorRegistry.PAGINATION_NEXT;
 
     // Test statistics
     private int totalTests = 0;
     private int passedTests = 0;
     private int failedTests = 0;
+    private final CaseRunner cases = new CaseRunner(this, (total, passed, failed) -> {
+        totalTests += total;
+        passedTests += passed;
+        failedTests += failed;
+    }, this::log, this::logError, this::recycleDriver);
     private int screenshotCount = 0;
 
     private boolean sharedDriver = false;
@@ -78,12 +82,13 @@ public class BlogsTest {
         this.sharedDriver = sharedDriver;
         if (driver != null && sharedDriver) {
             this.driver = driver;
-            this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-            this.shortWait = new WebDriverWait(driver, Duration.ofSeconds(5));
+            this.wait = new AdaptiveWait(driver, Duration.ofSeconds(10));
+            this.shortWait = new AdaptiveWait(driver, Duration.ofSeconds(5));
             this.js = (JavascriptExecutor) driver;
         } else {
             initializeDriver();
         }
+        this.actions = new PageActions(this.driver);
         initializeLog();
     }
 
@@ -96,11 +101,13 @@ public class BlogsTest {
         options.addArguments("--disable-blink-features=AutomationControlled");
 
         driver = new ChromeDriver(options);
+        ResourceTracker.driverOpened(driver);
+        SessionState.inject(driver);
         driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(10));
-        driver.manage().timeouts().implicitlyWait(Duration.ofMillis(500));
+        driver.manage().timeouts().implicitlyWait(LocatorRegistry.implicitWait());
 
-        wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        shortWait = new WebDriverWait(driver, Duration.ofSeconds(5));
+        wait = new AdaptiveWait(driver, Duration.ofSeconds(10));
+        shortWait = new AdaptiveWait(driver, Duration.ofSeconds(5));
         js = (JavascriptExecutor) driver;
     }
 
@@ -148,6 +155,7 @@ public class BlogsTest {
     }
 
     private void logError(String message) {
+        cases.observe(message);
         String errorMsg = "❌ " + message;
         System.err.println(errorMsg);
         logMessages.add(errorMsg);
@@ -156,13 +164,14 @@ public class BlogsTest {
     private String takeScreenshot(String fileName) {
         try {
             TakesScreenshot screenshot = (TakesScreenshot) driver;
-            File sourceFile = screenshot.getScreenshotAs(OutputType.FILE);
+            // BYTES instead of FILE: no Selenium temp file left behind
+            byte[] png = screenshot.getScreenshotAs(OutputType.BYTES);
 
             String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("HHmmss"));
             String screenshotName = fileName + "_" + timestamp + ".png";
             String destinationPath = screenshotFolder + "/" + screenshotName;
 
-            Files.copy(sourceFile.toPath(), Paths.get(destinationPath), StandardCopyOption.REPLACE_EXISTING);
+            Files.write(Paths.get(destinationPath), png);
 
             screenshotCount++;
             log("📸 Screenshot saved: " + destinationPath);
@@ -177,7 +186,7 @@ public class BlogsTest {
 
     private void sleep(int milliseconds) {
         try {
-            Thread.sleep(milliseconds);
+            Thread.sleep(TimeBudget.clampMillis(milliseconds));
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
@@ -202,11 +211,10 @@ public class BlogsTest {
      */
     private int getPageCount() {
         try {
-            List<WebElement> paginationLinksElements = driver.findElements(paginationLinks);
             int maxPage = 0;
             
-            for (WebElement link : paginationLinksElements) {
-                String text = link.getText().trim();
+            // One snapshot instead of a getText() round trip per pagination link
+            for (String text : DomSnapshot.capture(driver).texts(paginationLinks)) {
                 // Skip non-numeric text like "Next", "Previous"
                 if (text.matches("\\d+")) {
                     int pageNum = Integer.parseInt(text);
@@ -232,9 +240,7 @@ public class BlogsTest {
             log("🧹 Clicking Reset button...");
             
             WebElement resetBtn = wait.until(ExpectedConditions.presenceOfElementLocated(resetButton));
-            js.executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", resetBtn);
-            sleep(300);
-            js.executeScript("arguments[0].click();", resetBtn);
+            actions.forceClick(resetBtn);
             log("   ✅ Reset button clicked");
             sleep(500);
             
@@ -243,6 +249,30 @@ public class BlogsTest {
         }
     }
 
+    /**
+     * Compare every result of the current search with the blog index (-Dstudyleo.blogOracle)
+     */
+    private boolean matchesOracle(String query) {
+        BlogSearchOracle oracle = BlogSearchOracle.get();
+        if (oracle == null) {
+            return true;
+        }
+        BlogSearchOracle.Comparison comparison;
+        try {
+            // Back on page 1 afterwards, so testNextPageButton is not affected
+            comparison = oracle.compare(query, BlogSearchOracle.siteResultsInPlace(driver, actions));
+        } catch (Exception e) {
+            logError("Could not read all search results: " + e.getMessage());
+            return false;
+        }
+        log("   🗂️ Oracle: " + comparison);
+        if (!comparison.exact()) {
+            logError("Search results for \"" + query + "\" do not match the blog index (" + comparison + ")");
+            return false;
+        }
+        return true;
+    }
+
     // ==================== TEST METHODS ====================
 
     /**
@@ -273,10 +303,7 @@ public class BlogsTest {
         // Type "medicine" in search box
         log("   Searching for: \"medicine\"");
         WebElement searchInput = wait.until(ExpectedConditions.presenceOfElementLocated(searchBox));
-        js.executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", searchInput);
-        sleep(300);
-        searchInput.clear();
-        searchInput.sendKeys("medicine");
+        actions.type(searchInput, "medicine");
         sleep(1500); // Wait for results to filter
         
         // Get new page count
@@ -284,8 +311,11 @@ public class BlogsTest {
         log("   📊 Filtered page count: " + filteredPageCount);
         log("   Result: " + initialPageCount + " pages → " + filteredPageCount + " pages");
         
-        // Verify page count decreased
-        if (filteredPageCount < initialPageCount || filteredPageCount == 0) {
+        // Verify page count decreased (and the results match the blog index when enabled)
+        if (!matchesOracle("medicine")) {
+            failedTests++;
+            takeScreenshot("SEARCH_ORACLE_MISMATCH");
+        } else if (filteredPageCount < initialPageCount || filteredPageCount == 0) {
             log("✅ PASS - Page count decreased");
             passedTests++;
         } else {
@@ -315,9 +345,7 @@ public class BlogsTest {
             log("   📎 Blog URL: " + blogUrl);
             
             // Click blog card
-            js.executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", blogCard);
-            sleep(300);
-            js.executeScript("arguments[0].click();", blogCard);
+            actions.click(blogCard);
             sleep(2000);
             
             // Verify page loaded (check URL changed and page has content)
@@ -359,7 +387,9 @@ public class BlogsTest {
             
             // Verify we're back on blogs page
             String currentUrl = driver.getCurrentUrl();
-            if (!currentUrl.contains("/blogs")) {
+            if (!currentUrl.contains("/blogs") && SuiteConfig.isDirectNavigation()) {
+                SiteBootstrap.openDirect(driver, "/blogs");
+            } else if (!currentUrl.contains("/blogs")) {
                 // If not on blogs page, navigate directly
                 WebElement blogsLinkElement = wait.until(ExpectedConditions.presenceOfElementLocated(this.blogsLink));
                 js.executeScript("arguments[0].click();", blogsLinkElement);
@@ -372,9 +402,7 @@ public class BlogsTest {
             // Click Next page button
             log("   ⏭️ Clicking Next page button...");
             WebElement nextBtn = wait.until(ExpectedConditions.presenceOfElementLocated(nextPageButton));
-            js.executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", nextBtn);
-            sleep(300);
-            js.executeScript("arguments[0].click();", nextBtn);
+            actions.click(nextBtn);
             sleep(1500);
             
             // Verify page changed (URL should have page parameter or content changed)
@@ -399,21 +427,43 @@ public class BlogsTest {
 
     // ==================== MAIN TEST FLOW ====================
 
+    /**
+     * Replace an unhealthy browser session and reopen the page under test
+     */
+    private void recycleDriver(String reason) {
+        log("♻️ Browser unhealthy (" + reason + ") - recycling session");
+        driver = BrowserHealth.recycle(driver, getTestClassName(), reason, true);
+        wait = new AdaptiveWait(driver, Duration.ofSeconds(10));
+        shortWait = new AdaptiveWait(driver, Duration.ofSeconds(5));
+        js = (JavascriptExecutor) driver;
+        actions = new PageActions(driver);
+        openBlogsPageDirect();
+    }
+
     public void run() {
         try {
+            if (CircuitBreaker.isOpen()) {
+                logError("SKIPPED " + getTestClassName() + " - " + CircuitBreaker.getReason());
+                return;
+            }
+
             log("\n" + "█".repeat(70));
             log("█  🚀 STARTING AUTOMATED BLOG TESTING" + " ".repeat(32) + "█");
             log("█".repeat(70) + "\n");
 
-            openWebsite();
-            acceptCookies();
-            navigateToBlogsPage();
-            sleep(1000);
+            if (SuiteConfig.isDirectNavigation()) {
+                openBlogsPageDirect();
+            } else {
+                openWebsite();
+                acceptCookies();
+                navigateToBlogsPage();
+                sleep(1000);
+            }
 
             // Run all tests
-            testSearchBox();
-            testBlogLink();
-            testNextPageButton();
+            cases.run("testSearchBox", this::testSearchBox);
+            cases.run("testBlogLink", this::testBlogLink);
+            cases.run("testNextPageButton", this::testNextPageButton);
 
             printSummary();
 
@@ -431,6 +481,7 @@ public class BlogsTest {
         log("   Total Tests: " + totalTests);
         log("   ✅ Passed: " + passedTests);
         log("   ❌ Failed: " + failedTests);
+        log("   ⏭️ Skipped: " + cases.getSkipped());
 
         double successRate = totalTests > 0
                 ? (passedTests * 100.0 / totalTests)
@@ -448,12 +499,23 @@ public class BlogsTest {
         log("✅ Website opened\n");
     }
 
+    private void openBlogsPageDirect() {
+        log("🌐 Opening directly: " + SITE_URL + "/blogs");
+        SiteBootstrap.openDirect(driver, "/blogs");
+        log("✅ Blogs page opened\n");
+    }
+
     private void acceptCookies() {
+        if (SessionState.isApplied(driver)) {
+            log("🍪 Cookie consent restored from session snapshot\n");
+            return;
+        }
         log("🍪 Accepting cookies...");
         try {
             if (isElementPresent(acceptCookiesButton)) {
                 WebElement cookieBtn = driver.findElement(acceptCookiesButton);
                 js.executeScript("arguments[0].click();", cookieBtn);
+                SessionState.capture(driver);
                 log("✅ Cookies accepted\n");
             }
         } catch (Exception e) {
@@ -462,25 +524,25 @@ public class BlogsTest {
     }
 
     private boolean isElementPresent(By locator) {
-        try {
-            shortWait.until(ExpectedConditions.presenceOfElementLocated(locator));
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return LocatorRegistry.isPresent(driver, locator);
     }
 
     public void close() {
         if (!sharedDriver && driver != null) {
             log("\n\uD83D\uDD1A Closing browser...");
             driver.quit();
+            ResourceTracker.driverClosed(driver);
         }
+        // Log file is already written - drop the in-memory copy
+        logMessages.clear();
     }
 
     public int getTotalTests() { return totalTests; }
     public int getPassedTests() { return passedTests; }
     public int getFailedTests() { return failedTests; }
+    public int getSkippedTests() { return cases.getSkipped(); }
     public String getTestClassName() { return this.getClass().getSimpleName(); }
+    public WebDriver getDriver() { return driver; }
 
     public static void main(String[] args) {
         BlogsTest test = new BlogsTest();
@@ -0,0 +1,204 @@
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Isolated browser contexts inside one Chrome process.
+ * Chrome is launched once with a remote debugging port; every lease attaches a
+ * lightweight ChromeDriver session to it and opens a tab in a fresh context
+ * (CDP Target.createBrowserContext), so each test class gets its own cookie jar
+ * and storage without starting another browser.
+ */
+public final class BrowserContextPool implements AutoCloseable {
+
+    private final WebDriver browser;
+    private final String debuggerAddress;
+    private final int maxContexts;
+    private final Semaphore slots;
+    private final List<ContextStats> stats = Collections.synchronizedList(new ArrayList<>());
+
+    private BrowserContextPool(WebDriver browser, String debuggerAddress, int maxContexts) {
+        this.browser = browser;
+        this.debuggerAddress = debuggerAddress;
+        this.maxContexts = maxContexts;
+        this.slots = new Semaphore(maxContexts);
+    }
+
+    /**
+     * Launch the shared Chrome process.
+     * maxContexts = eyni anda açıq ola biləcək context sayı (studyleo.contexts)
+     */
+    public static BrowserContextPool launch(int maxContexts) {
+        WebDriverManager.chromedriver().setup();
+        int port = findFreePort();
+
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--start-maximized");
+        options.addArguments("--disable-notifications");
+        options.addArguments("--disable-popup-blocking");
+        options.addArguments("--disable-blink-features=AutomationControlled");
+        options.addArguments("--remote-debugging-port=" + port);
+
+        WebDriver browser = new ChromeDriver(options);
+        ResourceTracker.driverOpened(browser);
+        return new BrowserContextPool(browser, "127.0.0.1:" + port, Math.max(1, maxContexts));
+    }
+
+    public int getMaxContexts() {
+        return maxContexts;
+    }
+
+    /**
+     * Create a new context and return a driver whose current window lives in it.
+     * Blocks while maxContexts contexts are already open.
+     */
+    public Lease acquire(String owner) throws InterruptedException {
+        slots.acquire();
+        WebDriver driver = null;
+        try {
+            ChromeOptions options = new ChromeOptions();
+            options.setExperimentalOption("debuggerAddress", debuggerAddress);
+            driver = new ChromeDriver(options);
+            ResourceTracker.driverOpened(driver);
+
+            Map<String, Object> contextParams = new HashMap<>();
+            contextParams.put("disposeOnDetach", false);
+            String contextId = (String) CdpSupport.execute(driver, "Target.createBrowserContext", contextParams)
+                    .get("browserContextId");
+
+            Map<String, Object> targetParams = new HashMap<>();
+            targetParams.put("url", "about:blank");
+            targetParams.put("browserContextId", contextId);
+            String targetId = (String) CdpSupport.execute(driver, "Target.createTarget", targetParams)
+                    .get("targetId");
+
+            // ChromeDriver window handles are DevTools target ids
+            for (int attempt = 0; attempt < 20 && !driver.getWindowHandles().contains(targetId); attempt++) {
+                Thread.sleep(100);
+            }
+            driver.switchTo().window(targetId);
+            BrowserHealth.pin(driver);
+
+            return new Lease(owner, driver, contextId);
+        } catch (RuntimeException | InterruptedException e) {
+            if (driver != null) {
+                driver.quit();
+                ResourceTracker.driverClosed(driver);
+            }
+            slots.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Sample memory of the context, dispose it and free the slot
+     */
+    public void release(Lease lease) {
+        try {
+            stats.add(sample(lease));
+            Map<String, Object> params = new HashMap<>();
+            params.put("browserContextId", lease.contextId);
+            CdpSupport.execute(lease.driver, "Target.disposeBrowserContext", params);
+        } catch (Exception e) {
+            System.err.println("⚠️ Context dispose failed for " + lease.owner + ": " + e.getMessage());
+        } finally {
+            try {
+                lease.driver.quit();
+                ResourceTracker.driverClosed(lease.driver);
+            } catch (Exception e) {
+                System.err.println("⚠️ Attached session quit failed: " + e.getMessage());
+            }
+            slots.release();
+        }
+    }
+
+    public void printReport() {
+        System.out.println("\n================== BROWSER CONTEXTS ==================");
+        System.out.printf("%-20s %12s | %8s | %8s\n", "Context", "JS heap MB", "Nodes", "Seconds");
+        synchronized (stats) {
+            for (ContextStats s : stats) {
+                System.out.printf("%-20s %12.1f | %8d | %8d\n",
+                        s.owner, s.jsHeapUsedBytes / 1024.0 / 1024.0, s.domNodes, s.durationMillis / 1000);
+            }
+        }
+        System.out.println("Max concurrent contexts: " + maxContexts);
+        System.out.println("======================================================");
+    }
+
+    @Override
+    public void close() {
+        browser.quit();
+        ResourceTracker.driverClosed(browser);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ContextStats sample(Lease lease) {
+        double heap = -1;
+        long nodes = -1;
+        try {
+            CdpSupport.execute(lease.driver, "Performance.enable");
+            List<Map<String, Object>> metrics = (List<Map<String, Object>>) CdpSupport
+                    .execute(lease.driver, "Performance.getMetrics").get("metrics");
+            for (Map<String, Object> metric : metrics) {
+                Number value = (Number) metric.get("value");
+                if ("JSHeapUsedSize".equals(metric.get("name"))) {
+                    heap = value.doubleValue();
+                } else if ("Nodes".equals(metric.get("name"))) {
+                    nodes = value.longValue();
+                }
+            }
+        } catch (Exception e) {
+            System.err.println("⚠️ Memory sample failed for " + lease.owner + ": " + e.getMessage());
+        }
+        return new ContextStats(lease.owner, heap, nodes, System.currentTimeMillis() - lease.startMillis);
+    }
+
+    private static int findFreePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new IllegalStateException("No free port for remote debugging", e);
+        }
+    }
+
+    public static final class Lease {
+        private final String owner;
+        private final WebDriver driver;
+        private final String contextId;
+        private final long startMillis = System.currentTimeMillis();
+
+        private Lease(String owner, WebDriver driver, String contextId) {
+            this.owner = owner;
+            this.driver = driver;
+            this.contextId = contextId;
+        }
+
+        public WebDriver getDriver() {
+            return driver;
+        }
+    }
+
+    private static final class ContextStats {
+        final String owner;
+        final double jsHeapUsedBytes;
+        final long domNodes;
+        final long durationMillis;
+
+        ContextStats(String owner, double jsHeapUsedBytes, long domNodes, long durationMillis) {
+            this.owner = owner;
+            this.jsHeapUsedBytes = jsHeapUsedBytes;
+            this.domNodes = domNodes;
+            this.durationMillis = durationMillis;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Browser health watchdog (-Dstudyleo.healthWatch=true).
+ * Between test cases the session is checked at most every
+ * -Dstudyleo.healthIntervalSeconds (default 30): a liveness script with a 5 s
+ * limit, then CDP Performance.getMetrics for JS heap and DOM nodes. A hung
+ * session, or one above -Dstudyleo.maxHeapMb (default 512) or
+ * -Dstudyleo.maxDomNodes (default 150000), is replaced by a fresh ChromeDriver;
+ * every recycle is listed in the run report.
+ */
+public final class BrowserHealth {
+
+    private static final long LIVENESS_TIMEOUT_SECONDS = 5;
+
+    private static final ExecutorService PROBES = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "browser-health");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final Map<WebDriver, Long> LAST_CHECK = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Set<WebDriver> PINNED = Collections.synchronizedSet(
+            Collections.newSetFromMap(new WeakHashMap<>()));
+    private static final List<String> EVENTS = Collections.synchronizedList(new ArrayList<>());
+
+    private BrowserHealth() {
+    }
+
+    public static boolean isEnabled() {
+        return SuiteConfig.flag("healthWatch");
+    }
+
+    /**
+     * Drivers owned by someone else (context pool leases) are sampled but never recycled
+     */
+    public static void pin(WebDriver driver) {
+        PINNED.add(driver);
+    }
+
+    public static boolean canRecycle(WebDriver driver) {
+        return !PINNED.contains(driver);
+    }
+
+    /**
+     * null = healthy or not due yet; otherwise the reason the session should be recycled
+     */
+    public static String check(WebDriver driver, String owner) {
+        if (!isEnabled() || driver == null) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        Long last = LAST_CHECK.get(driver);
+        if (last != null && now - last < SuiteConfig.intValue("healthIntervalSeconds", 30) * 1000L) {
+            return null;
+        }
+        LAST_CHECK.put(driver, now);
+
+        String problem = findProblem(driver);
+        if (problem != null && !canRecycle(driver)) {
+            EVENTS.add(time() + " " + owner + ": " + problem + " (context lease, not recycled)");
+            return null;
+        }
+        return problem;
+    }
+
+    /**
+     * Quit the unhealthy session (without waiting on a hung one) and start a new one.
+     * restoreSession = false for classes that test consent themselves: the new
+     * session must show the cookie banner like the first one did.
+     */
+    public static WebDriver recycle(WebDriver old, String owner, String reason, boolean restoreSession) {
+        ResourceTracker.driverClosed(old);
+        PROBES.submit(() -> {
+            try {
+                old.quit();
+            } catch (Exception ignored) {
+                // Session is already broken
+            }
+        });
+
+        WebDriverManager.chromedriver().setup();
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--start-maximized");
+        options.addArguments("--disable-notifications");
+        options.addArguments("--disable-popup-blocking");
+        options.addArguments("--disable-blink-features=AutomationControlled");
+
+        WebDriver driver = new ChromeDriver(options);
+        ResourceTracker.driverOpened(driver);
+        if (restoreSession) {
+            SessionState.inject(driver);
+        }
+        driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(10));
+        driver.manage().timeouts().implicitlyWait(LocatorRegistry.implicitWait());
+
+        EVENTS.add(time() + " " + owner + ": " + reason + " → session recycled");
+        System.err.println("♻️ " + owner + ": browser session recycled (" + reason + ")");
+        return driver;
+    }
+
+    public static void printReport() {
+        synchronized (EVENTS) {
+            if (EVENTS.isEmpty()) {
+                return;
+            }
+            System.out.println("\n================== BROWSER HEALTH ==================");
+            for (String event : EVENTS) {
+                System.out.println("♻️ " + event);
+            }
+            System.out.println("====================================================");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String findProblem(WebDriver driver) {
+        Future<Object> alive = PROBES.submit(() ->
+                ((JavascriptExecutor) driver).executeScript("return document.readyState;"));
+        try {
+            alive.get(LIVENESS_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            alive.cancel(true);
+            return "not responding (" + e.getClass().getSimpleName() + ")";
+        }
+
+        if (!CdpSupport.isAvailable(driver)) {
+            return null;
+        }
+        try {
+            CdpSupport.execute(driver, "Performance.enable");
+            List<Map<String, Object>> metrics = (List<Map<String, Object>>) CdpSupport
+                    .execute(driver, "Performance.getMetrics").get("metrics");
+            double heapMb = 0;
+            long nodes = 0;
+            for (Map<String, Object> metric : metrics) {
+                Number value = (Number) metric.get("value");
+                if ("JSHeapUsedSize".equals(metric.get("name"))) {
+                    heapMb = value.doubleValue() / 1024 / 1024;
+                } else if ("Nodes".equals(metric.get("name"))) {
+                    nodes = value.longValue();
+                }
+            }
+            int maxHeapMb = SuiteConfig.intValue("maxHeapMb", 512);
+            int maxNodes = SuiteConfig.intValue("maxDomNodes", 150000);
+            if (heapMb > maxHeapMb) {
+                return String.format("JS heap %.0f MB > %d MB", heapMb, maxHeapMb);
+            }
+            if (nodes > maxNodes) {
+                return "DOM nodes " + nodes + " > " + maxNodes;
+            }
+        } catch (Exception e) {
+            // Metrics are optional, liveness already passed
+        }
+        return null;
+    }
+
+    private static String time() {
+        return LocalTime.now().format(DateTimeFormatter.ofPattern("HH:mm:ss"));
+    }
+}
@@ -0,0 +1,131 @@
+import java.util.function.Consumer;
+
+/**
+ * Guard chain every case of a SuiteTest class runs through: browser health
+ * (recycle the session) → circuit breaker → time budget → checkpoint → the case.
+ * On resume a case that passed before is credited with the tests it counted;
+ * setup cases always run again and chained cases are resumed only together.
+ * The breaker hears from each case exactly once: its first infrastructure error,
+ * or "the site answered" when the case passed or failed for any other reason.
+ * Cases refused by the breaker or the budget are counted as skipped, not failed.
+ */
+final class CaseRunner {
+
+    /**
+     * Counter updates for the test class, which owns its totals
+     */
+    interface Tally {
+        void add(int total, int passed, int failed);
+    }
+
+    private final SuiteTest test;
+    private final Tally tally;
+    private final Consumer<String> log;
+    private final Consumer<String> logError;
+    private final Consumer<String> recycle;
+    private boolean inCase;
+    private String infrastructureFailure;
+    private int skipped;
+
+    CaseRunner(SuiteTest test, Tally tally, Consumer<String> log, Consumer<String> logError, Consumer<String> recycle) {
+        this.test = test;
+        this.tally = tally;
+        this.log = log;
+        this.logError = logError;
+        this.recycle = recycle;
+    }
+
+    /**
+     * Run one test case unless it passed in the resumed run
+     */
+    void run(String name, Runnable testCase) {
+        if (!resume(name)) {
+            execute(name, testCase);
+        }
+    }
+
+    /**
+     * A case later cases rely on (consent accepted) - runs again even on resume
+     */
+    void runSetup(String name, Runnable testCase) {
+        execute(name, testCase);
+    }
+
+    /**
+     * Two cases sharing page state (open a dialog → close it): on resume both are
+     * skipped when both passed, otherwise both run, so the second never starts
+     * without what the first left on the page
+     */
+    void runChain(String firstName, Runnable first, String secondName, Runnable second) {
+        String className = test.getTestClassName();
+        if (RunCheckpoint.passedTests(className, firstName) >= 0
+                && RunCheckpoint.passedTests(className, secondName) >= 0) {
+            resume(firstName);
+            resume(secondName);
+            return;
+        }
+        execute(firstName, first);
+        execute(secondName, second);
+    }
+
+    private boolean resume(String name) {
+        int tests = RunCheckpoint.passedTests(test.getTestClassName(), name);
+        if (tests < 0) {
+            return false;
+        }
+        tally.add(tests, tests, 0);
+        log.accept("⏩ " + name + " - passed in the checkpointed run, skipping");
+        return true;
+    }
+
+    /**
+     * Run one test case unless the suite circuit breaker is open or the deadline is near
+     */
+    private void execute(String name, Runnable testCase) {
+        String className = test.getTestClassName();
+        String problem = BrowserHealth.check(test.getDriver(), className);
+        if (problem != null) {
+            recycle.accept(problem);
+        }
+        if (!CircuitBreaker.allowRequest()) {
+            skipped++;
+            logError.accept("SKIPPED " + name + " - " + CircuitBreaker.getReason());
+            return;
+        }
+        if (!TimeBudget.hasBudgetFor(className + "." + name)) {
+            skipped++;
+            logError.accept("SKIPPED " + name + " - no time budget left");
+            return;
+        }
+        int totalBefore = test.getTotalTests();
+        int passedBefore = test.getPassedTests();
+        int failedBefore = test.getFailedTests();
+        inCase = true;
+        infrastructureFailure = null;
+        try {
+            testCase.run();
+        } finally {
+            inCase = false;
+            CircuitBreaker.recordCase(infrastructureFailure);
+        }
+        RunCheckpoint.recordCase(className, name,
+                test.getPassedTests() > passedBefore && test.getFailedTests() == failedBefore,
+                test.getTotalTests() - totalBefore);
+    }
+
+    /**
+     * Every logged error goes here. Inside a case only the first infrastructure error
+     * is kept for the breaker; outside one (page setup in run()) it is reported at once.
+     */
+    void observe(String message) {
+        if (!inCase) {
+            CircuitBreaker.observe(message);
+        } else if (infrastructureFailure == null && CircuitBreaker.isInfrastructure(message)) {
+            infrastructureFailure = message;
+        }
+    }
+
+    int getSkipped() {
+        return skipped;
+    }
+}
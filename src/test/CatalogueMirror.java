@@ -0,0 +1,755 @@
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Local mirror of the Programs catalogue in logs/programs-catalogue.col.
+ * The crawler walks every listing page (/programs?page=N) over -Dstudyleo.sweepWorkers
+ * browser contexts, one card-extraction script per page. Categorical fields are
+ * matched against the option texts of the six filter dropdowns, so the mirror uses
+ * the same values the UI filters on. The file is columnar: per column one dictionary
+ * plus one short code per program, prices as ints and the discount flag as a bitset.
+ * CatalogueOracle answers filter counts from it.
+ *
+ * refresh() re-checks every listing page over plain HTTP first (ETag / Last-Modified,
+ * then a hash of the server HTML) and renders only the pages that changed; programs
+ * on unchanged pages are carried over from the previous mirror. A listing card holds
+ * every field the mirror keeps, so re-rendering a changed page is the re-crawl of its
+ * records - no detail pages are fetched. A page that fails to render also keeps its
+ * previous programs and is reported as not refreshed.
+ */
+public final class CatalogueMirror {
+
+    static final Path MIRROR_FILE = Paths.get("logs", "programs-catalogue.col");
+    private static final int MAGIC = 0x534C4332;
+    private static final short UNKNOWN = -1;
+
+    /**
+     * Column names = dropdown names used by FilterExplorer
+     */
+    static final List<String> CATEGORIES = List.of(
+            "Universities", "Faculties", "Cities", "Degree Types", "Languages", "Duration");
+    private static final List<LocatorRegistry.Locator> DROPDOWNS = List.of(
+            LocatorRegistry.PROGRAMS_UNIVERSITIES, LocatorRegistry.PROGRAMS_FACULTIES,
+            LocatorRegistry.PROGRAMS_CITIES, LocatorRegistry.PROGRAMS_DEGREE_TYPES,
+            LocatorRegistry.PROGRAMS_LANGUAGES, LocatorRegistry.PROGRAMS_DURATION);
+
+    // One card = the largest ancestor of a detail link that links to no other detail page
+    static final String CARDS_SCRIPT =
+            "var parts = arguments[0].split(',');" +
+            "var selector = parts.map(function (p) { return \"a[href*='\" + p + \"']\"; }).join(', ');" +
+            "function key(a) { return a.href.split('#')[0].split('?')[0]; }" +
+            "function detail(a) { var k = key(a); return parts.some(function (p) {" +
+            "  var i = k.indexOf(p); return i >= 0 && k.length > i + p.length; }); }" +
+            "function programs(el) { var s = {}; el.querySelectorAll(selector)" +
+            "  .forEach(function (x) { if (detail(x)) { s[key(x)] = 1; } }); return Object.keys(s).length; }" +
+            "var seen = {}, cards = [];" +
+            "document.querySelectorAll(parts.map(function (p) { return \"main a[href*='\" + p + \"']\"; }).join(', '))" +
+            "  .forEach(function (a) {" +
+            "  if (!detail(a)) { return; }" +
+            "  var href = key(a); if (seen[href]) { return; } seen[href] = true;" +
+            "  var card = a;" +
+            "  while (card.parentElement && card.parentElement.tagName !== 'MAIN' && programs(card.parentElement) === 1) {" +
+            "    card = card.parentElement; }" +
+            "  var heading = card.querySelector('h1, h2, h3, h4, h5');" +
+            "  var struck = !!card.querySelector('s, del') || Array.from(card.querySelectorAll('*')).some(function (e) {" +
+            "    return getComputedStyle(e).textDecorationLine.indexOf('line-through') >= 0; });" +
+            "  cards.push({ href: href, name: ((heading || a).innerText || '').trim()," +
+            "    text: card.innerText || '', struck: struck });" +
+            "});" +
+            "return cards;";
+
+    private static final Pattern AMOUNT = Pattern.compile(
+            "(?:[$€£₺]|USD|EUR|TRY)\\s*([0-9][0-9,.]*)|([0-9][0-9,.]*)\\s*(?:[$€£₺]|USD|EUR|TRY)");
+    private static final Pattern DISCOUNT_TEXT = Pattern.compile("(?i)discount|\\d+\\s*%");
+    // Scripts carry per-request ids and nonces; the listing markup is what we compare
+    private static final Pattern VOLATILE_HTML = Pattern.compile(
+            "(?is)<script\\b.*?</script>|<style\\b.*?</style>|\\snonce=\"[^\"]*\"");
+
+    private static final HttpClient HTTP = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+
+    private final long crawledAt;
+    private final List<String> hrefs;
+    private final List<String> names;
+    private final List<String> texts;
+    private final int[] pageOf;
+    private final BitSet struck;
+    private final List<List<String>> dictionaries;
+    private final short[][] codes;
+    private final int[] prices;
+    private final BitSet discounts;
+    private final Map<Integer, PageState> pageStates;
+    private final long avgPageMillis;
+
+    private CatalogueMirror(long crawledAt, List<String> hrefs, List<String> names, List<String> texts,
+                            int[] pageOf, BitSet struck, List<List<String>> dictionaries, short[][] codes,
+                            int[] prices, BitSet discounts, Map<Integer, PageState> pageStates, long avgPageMillis) {
+        this.crawledAt = crawledAt;
+        this.hrefs = hrefs;
+        this.names = names;
+        this.texts = texts;
+        this.pageOf = pageOf;
+        this.struck = struck;
+        this.dictionaries = dictionaries;
+        this.codes = codes;
+        this.prices = prices;
+        this.discounts = discounts;
+        this.pageStates = pageStates;
+        this.avgPageMillis = avgPageMillis;
+    }
+
+    // ==================== COLUMNS ====================
+
+    public int rows() {
+        return hrefs.size();
+    }
+
+    public long getCrawledAt() {
+        return crawledAt;
+    }
+
+    public String href(int row) {
+        return hrefs.get(row);
+    }
+
+    public String name(int row) {
+        return names.get(row);
+    }
+
+    public List<String> dictionary(int category) {
+        return dictionaries.get(category);
+    }
+
+    /**
+     * Dictionary index of the row's value, -1 = not recognised on the card
+     */
+    public int code(int category, int row) {
+        return codes[category][row];
+    }
+
+    /**
+     * Lowest price on the card, -1 = no price shown
+     */
+    public int price(int row) {
+        return prices[row];
+    }
+
+    public boolean hasDiscount(int row) {
+        return discounts.get(row);
+    }
+
+    // ==================== CRAWL ====================
+
+    /**
+     * Crawl the whole listing, save the mirror and print a coverage report
+     */
+    public static CatalogueMirror crawl() {
+        return run(null);
+    }
+
+    /**
+     * Incremental refresh of the saved mirror; falls back to a full crawl when there is none
+     */
+    public static CatalogueMirror refresh() {
+        CatalogueMirror previous = load();
+        if (previous == null) {
+            System.out.println("ℹ️ No mirror to refresh - running a full crawl");
+        }
+        return run(previous);
+    }
+
+    private static CatalogueMirror run(CatalogueMirror previous) {
+        long startTime = System.currentTimeMillis();
+        boolean trustHtml = previous != null && previous.serverRendersPages();
+        if (previous != null && !trustHtml) {
+            System.out.println("⚠️ Listing HTML is identical for every page - all pages will be rendered");
+        }
+
+        BrowserContextPool pool = BrowserContextPool.launch(SuiteConfig.intValue("sweepWorkers", 3));
+        ExecutorService executor = Executors.newFixedThreadPool(pool.getMaxContexts());
+        Map<Integer, List<Map<String, Object>>> pages = new ConcurrentHashMap<>();
+        Map<Integer, PageState> states = new ConcurrentHashMap<>();
+        List<List<String>> dictionaries = new ArrayList<>();
+        AtomicInteger rendered = new AtomicInteger();
+        AtomicLong renderMillis = new AtomicLong();
+        int total;
+        int pageCount;
+        try {
+            BrowserContextPool.Lease lease = pool.acquire("mirror-list");
+            try {
+                WebDriver driver = lease.getDriver();
+                PageActions actions = new PageActions(driver);
+                for (LocatorRegistry.Locator dropdown : DROPDOWNS) {
+                    SiteBootstrap.openDirect(driver, "/programs");
+                    try {
+                        dictionaries.add(DropdownSweep.listOptions(driver, actions, dropdown));
+                    } catch (Exception e) {
+                        System.err.println("⚠️ Could not list " + dropdown.getName() + ": " + e.getMessage());
+                        dictionaries.add(new ArrayList<>());
+                    }
+                }
+                total = DropdownSweep.readCount(driver, "/programs");
+                // Page 1 is always rendered: it gives the total and the page size
+                states.put(1, fetchState(1, previous == null ? null : previous.pageStates.get(1)));
+                long pageStart = System.currentTimeMillis();
+                List<Map<String, Object>> first = extractPage(driver, 1);
+                renderMillis.addAndGet(System.currentTimeMillis() - pageStart);
+                rendered.incrementAndGet();
+                if (total <= 0 || first.isEmpty()) {
+                    System.err.println("❌ Programs listing not readable - mirror not built");
+                    return null;
+                }
+                pages.put(1, first);
+                pageCount = (total + first.size() - 1) / first.size();
+            } finally {
+                pool.release(lease);
+            }
+            System.out.println("🗂️ " + total + " programs on " + pageCount + " pages");
+
+            Queue<Integer> queue = new ConcurrentLinkedQueue<>();
+            for (int page = 2; page <= pageCount; page++) {
+                queue.add(page);
+            }
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < pool.getMaxContexts(); i++) {
+                String owner = "mirror-" + (i + 1);
+                futures.add(executor.submit(() -> {
+                    crawlPages(pool, owner, queue, previous, trustHtml, pages, states, rendered, renderMillis);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (Exception e) {
+                    System.err.println("❌ Mirror worker failed: " + e.getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            executor.shutdownNow();
+            pool.close();
+        }
+
+        // Pages that did not change keep their programs from the previous mirror; so do pages
+        // that failed to render, which must not turn into "removed" programs
+        int kept = 0;
+        List<Integer> notRefreshed = new ArrayList<>();
+        for (int page = 2; page <= pageCount; page++) {
+            if (pages.containsKey(page)) {
+                continue;
+            }
+            if (previous != null && states.containsKey(page)) {
+                pages.put(page, previous.cardsOf(page));
+                kept++;
+                continue;
+            }
+            notRefreshed.add(page);
+            if (previous != null) {
+                pages.put(page, previous.cardsOf(page));
+                // Empty state: the next refresh renders it again
+                states.put(page, new PageState("", "", ""));
+            }
+        }
+        if (!notRefreshed.isEmpty()) {
+            System.err.println("⚠️ " + notRefreshed.size() + " page(s) not " + (previous == null ? "crawled" : "refreshed")
+                    + (previous == null ? "" : ", previous programs kept") + ": " + notRefreshed);
+        }
+
+        long avgPageMillis = rendered.get() > 0 ? renderMillis.get() / rendered.get()
+                : previous == null ? 0 : previous.avgPageMillis;
+        CatalogueMirror mirror = build(dictionaries, pages, states, avgPageMillis);
+        mirror.save();
+        long seconds = (System.currentTimeMillis() - startTime) / 1000;
+        mirror.printReport(total, seconds);
+        if (previous != null) {
+            printRefreshReport(previous, mirror, rendered.get(), kept, notRefreshed.size(), pageCount, seconds);
+        }
+        return mirror;
+    }
+
+    private static void crawlPages(BrowserContextPool pool, String owner, Queue<Integer> queue,
+                                   CatalogueMirror previous, boolean trustHtml,
+                                   Map<Integer, List<Map<String, Object>>> pages, Map<Integer, PageState> states,
+                                   AtomicInteger rendered, AtomicLong renderMillis) throws InterruptedException {
+        BrowserContextPool.Lease lease = pool.acquire(owner);
+        try {
+            WebDriver driver = lease.getDriver();
+            Integer page;
+            while ((page = queue.poll()) != null) {
+                PageState old = previous == null ? null : previous.pageStates.get(page);
+                PageState state = fetchState(page, old);
+                // 304 and an equal HTML hash only mean unchanged data when pages render server-side;
+                // a client-rendered shell keeps its validators while the programs change
+                if (old != null && trustHtml && (state == old || state.sameAs(old))) {
+                    states.put(page, old);
+                    continue;
+                }
+                try {
+                    long pageStart = System.currentTimeMillis();
+                    pages.put(page, extractPage(driver, page));
+                    renderMillis.addAndGet(System.currentTimeMillis() - pageStart);
+                    rendered.incrementAndGet();
+                    states.put(page, state);
+                } catch (Exception e) {
+                    System.err.println("⚠️ Page " + page + " not crawled: " + e.getMessage());
+                }
+            }
+        } finally {
+            pool.release(lease);
+        }
+    }
+
+    /**
+     * Open one listing page and read all its cards with a single script
+     */
+    static List<Map<String, Object>> extractPage(WebDriver driver, int page) {
+        SiteBootstrap.openDirect(driver, "/programs?page=" + page);
+        return new AdaptiveWait(driver, Duration.ofSeconds(10)).until(d -> {
+            List<Map<String, Object>> cards = readCards(d, "/programs/");
+            return cards.isEmpty() ? null : cards;
+        });
+    }
+
+    /**
+     * Cards of the rendered listing: href, name, text, struck. linkPart = "/programs/", "/universities/", ...
+     * (several comma separated); only links with a path after the part count as cards
+     */
+    @SuppressWarnings("unchecked")
+    static List<Map<String, Object>> readCards(WebDriver driver, String linkPart) {
+        List<Map<String, Object>> cards = (List<Map<String, Object>>) ((JavascriptExecutor) driver)
+                .executeScript(CARDS_SCRIPT, linkPart);
+        return cards == null ? new ArrayList<>() : cards;
+    }
+
+    /**
+     * Conditional GET of the listing page; a failed request gives an empty state (= render it)
+     */
+    private static PageState fetchState(int page, PageState old) {
+        try {
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(SiteBootstrap.SITE_URL + "/programs?page=" + page))
+                    .timeout(Duration.ofSeconds(10))
+                    .GET();
+            if (old != null && !old.etag.isEmpty()) {
+                request.header("If-None-Match", old.etag);
+            }
+            if (old != null && !old.lastModified.isEmpty()) {
+                request.header("If-Modified-Since", old.lastModified);
+            }
+            HttpResponse<String> response = HTTP.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() == 304 && old != null) {
+                return old;
+            }
+            if (response.statusCode() != 200) {
+                return new PageState("", "", "");
+            }
+            return new PageState(response.headers().firstValue("ETag").orElse(""),
+                    response.headers().firstValue("Last-Modified").orElse(""),
+                    sha256(VOLATILE_HTML.matcher(response.body()).replaceAll("")));
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            return new PageState("", "", "");
+        }
+    }
+
+    /**
+     * HTML hashes are only a valid change signal if the server renders each page differently
+     */
+    private boolean serverRendersPages() {
+        PageState first = pageStates.get(1);
+        PageState second = pageStates.get(2);
+        return first != null && second != null && !first.htmlHash.isEmpty() && !second.htmlHash.isEmpty()
+                && !first.htmlHash.equals(second.htmlHash);
+    }
+
+    /**
+     * The page's programs as raw cards, the shape extractPage returns
+     */
+    private List<Map<String, Object>> cardsOf(int page) {
+        List<Map<String, Object>> cards = new ArrayList<>();
+        for (int row = 0; row < rows(); row++) {
+            if (pageOf[row] == page) {
+                Map<String, Object> card = new HashMap<>();
+                card.put("href", hrefs.get(row));
+                card.put("name", names.get(row));
+                card.put("text", texts.get(row));
+                card.put("struck", struck.get(row));
+                cards.add(card);
+            }
+        }
+        return cards;
+    }
+
+    /**
+     * Turn raw cards (in page order, first occurrence wins) into columns
+     */
+    static CatalogueMirror build(List<List<String>> dictionaries, Map<Integer, List<Map<String, Object>>> pages,
+                                 Map<Integer, PageState> pageStates, long avgPageMillis) {
+        Map<String, Map<String, Object>> cards = new LinkedHashMap<>();
+        Map<String, Integer> pageOfHref = new HashMap<>();
+        pages.keySet().stream().sorted().forEach(page -> {
+            for (Map<String, Object> card : pages.get(page)) {
+                String href = String.valueOf(card.get("href"));
+                if (cards.putIfAbsent(href, card) == null) {
+                    pageOfHref.put(href, page);
+                }
+            }
+        });
+
+        int rows = cards.size();
+        List<String> hrefs = new ArrayList<>(cards.keySet());
+        List<String> names = new ArrayList<>(rows);
+        List<String> texts = new ArrayList<>(rows);
+        int[] pageOf = new int[rows];
+        BitSet struck = new BitSet(rows);
+        short[][] codes = new short[CATEGORIES.size()][rows];
+        int[] prices = new int[rows];
+        BitSet discounts = new BitSet(rows);
+
+        List<List<String>> byLength = new ArrayList<>();
+        for (List<String> dictionary : dictionaries) {
+            List<String> sorted = new ArrayList<>(dictionary);
+            sorted.sort(Comparator.comparingInt(String::length).reversed());
+            byLength.add(sorted);
+        }
+
+        int row = 0;
+        for (Map<String, Object> card : cards.values()) {
+            String text = String.valueOf(card.get("text"));
+            names.add(String.valueOf(card.get("name")));
+            texts.add(text);
+            pageOf[row] = pageOfHref.get(hrefs.get(row));
+            struck.set(row, Boolean.TRUE.equals(card.get("struck")));
+            for (int c = 0; c < CATEGORIES.size(); c++) {
+                String value = matchOption(text, byLength.get(c));
+                codes[c][row] = value == null ? UNKNOWN : (short) dictionaries.get(c).indexOf(value);
+            }
+            List<Integer> amounts = amounts(text);
+            prices[row] = lowestAmount(text);
+            if (struck.get(row) || amounts.size() > 1 || DISCOUNT_TEXT.matcher(text).find()) {
+                discounts.set(row);
+            }
+            row++;
+        }
+        return new CatalogueMirror(System.currentTimeMillis(), hrefs, names, texts, pageOf, struck,
+                dictionaries, codes, prices, discounts, new HashMap<>(pageStates), avgPageMillis);
+    }
+
+    /**
+     * A whole card line equal to the option wins; otherwise the longest option contained in the text
+     */
+    private static String matchOption(String text, List<String> optionsByLength) {
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (String line : lower.split("\\R")) {
+            for (String option : optionsByLength) {
+                if (line.trim().equals(option.toLowerCase(Locale.ROOT))) {
+                    return option;
+                }
+            }
+        }
+        for (String option : optionsByLength) {
+            if (lower.contains(option.toLowerCase(Locale.ROOT))) {
+                return option;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Lowest price shown in the card text (the discounted one), -1 = none
+     */
+    static int lowestAmount(String text) {
+        return amounts(text).stream().min(Integer::compare).orElse(-1);
+    }
+
+    private static List<Integer> amounts(String text) {
+        List<Integer> amounts = new ArrayList<>();
+        Matcher matcher = AMOUNT.matcher(text);
+        while (matcher.find()) {
+            String raw = matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
+            String digits = raw.replaceAll("[.,]\\d{2}$", "").replaceAll("[^0-9]", "");
+            if (!digits.isEmpty() && digits.length() < 10) {
+                amounts.add(Integer.parseInt(digits));
+            }
+        }
+        return amounts;
+    }
+
+    private static String sha256(String text) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // ==================== FILE ====================
+
+    void save() {
+        try {
+            Files.createDirectories(MIRROR_FILE.getParent());
+            Path temp = MIRROR_FILE.resolveSibling(MIRROR_FILE.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeLong(crawledAt);
+                out.writeInt(rows());
+                for (String href : hrefs) {
+                    out.writeUTF(href);
+                }
+                for (String name : names) {
+                    out.writeUTF(name);
+                }
+                for (int c = 0; c < CATEGORIES.size(); c++) {
+                    out.writeInt(dictionaries.get(c).size());
+                    for (String value : dictionaries.get(c)) {
+                        out.writeUTF(value);
+                    }
+                    for (short code : codes[c]) {
+                        out.writeShort(code);
+                    }
+                }
+                for (int price : prices) {
+                    out.writeInt(price);
+                }
+                writeBits(out, discounts);
+
+                // Refresh columns: listing page and raw card per program, validators per page
+                for (int page : pageOf) {
+                    out.writeInt(page);
+                }
+                writeBits(out, struck);
+                for (String text : texts) {
+                    out.writeUTF(text);
+                }
+                out.writeInt(pageStates.size());
+                for (Map.Entry<Integer, PageState> entry : pageStates.entrySet()) {
+                    out.writeInt(entry.getKey());
+                    out.writeUTF(entry.getValue().etag);
+                    out.writeUTF(entry.getValue().lastModified);
+                    out.writeUTF(entry.getValue().htmlHash);
+                }
+                out.writeLong(avgPageMillis);
+            }
+            Files.move(temp, MIRROR_FILE, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            System.out.println("💾 Mirror saved: " + MIRROR_FILE + " (" + Files.size(MIRROR_FILE) / 1024 + " KB)");
+        } catch (IOException e) {
+            System.err.println("⚠️ Could not save mirror: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Read the mirror file, null if there is none or it cannot be read
+     */
+    public static CatalogueMirror load() {
+        if (!Files.exists(MIRROR_FILE)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(MIRROR_FILE)))) {
+            if (in.readInt() != MAGIC) {
+                System.err.println("⚠️ " + MIRROR_FILE + " has an unknown format - crawl it again");
+                return null;
+            }
+            long crawledAt = in.readLong();
+            int rows = in.readInt();
+            List<String> hrefs = readStrings(in, rows);
+            List<String> names = readStrings(in, rows);
+            List<List<String>> dictionaries = new ArrayList<>();
+            short[][] codes = new short[CATEGORIES.size()][rows];
+            for (int c = 0; c < CATEGORIES.size(); c++) {
+                dictionaries.add(readStrings(in, in.readInt()));
+                for (int i = 0; i < rows; i++) {
+                    codes[c][i] = in.readShort();
+                }
+            }
+            int[] prices = new int[rows];
+            for (int i = 0; i < rows; i++) {
+                prices[i] = in.readInt();
+            }
+            BitSet discounts = readBits(in);
+
+            int[] pageOf = new int[rows];
+            for (int i = 0; i < rows; i++) {
+                pageOf[i] = in.readInt();
+            }
+            BitSet struck = readBits(in);
+            List<String> texts = readStrings(in, rows);
+            int pageCount = in.readInt();
+            Map<Integer, PageState> pageStates = new HashMap<>();
+            for (int i = 0; i < pageCount; i++) {
+                pageStates.put(in.readInt(), new PageState(in.readUTF(), in.readUTF(), in.readUTF()));
+            }
+            long avgPageMillis = in.readLong();
+            return new CatalogueMirror(crawledAt, hrefs, names, texts, pageOf, struck,
+                    dictionaries, codes, prices, discounts, pageStates, avgPageMillis);
+        } catch (IOException e) {
+            System.err.println("⚠️ Could not read mirror: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static List<String> readStrings(DataInputStream in, int count) throws IOException {
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(in.readUTF());
+        }
+        return values;
+    }
+
+    private static void writeBits(DataOutputStream out, BitSet bits) throws IOException {
+        long[] words = bits.toLongArray();
+        out.writeInt(words.length);
+        for (long word : words) {
+            out.writeLong(word);
+        }
+    }
+
+    private static BitSet readBits(DataInputStream in) throws IOException {
+        long[] words = new long[in.readInt()];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = in.readLong();
+        }
+        return BitSet.valueOf(words);
+    }
+
+    // ==================== REPORTS ====================
+
+    private void printReport(int siteTotal, long seconds) {
+        System.out.println("\n================== CATALOGUE MIRROR ==================");
+        System.out.println("Programs mirrored: " + rows() + " / " + siteTotal + " on the site");
+        for (int c = 0; c < CATEGORIES.size(); c++) {
+            int unknown = 0;
+            for (short code : codes[c]) {
+                if (code == UNKNOWN) {
+                    unknown++;
+                }
+            }
+            System.out.printf("%-14s %4d values | %5d programs not recognised\n",
+                    CATEGORIES.get(c), dictionaries.get(c).size(), unknown);
+        }
+        System.out.println("With discount: " + discounts.cardinality());
+        System.out.println("Duration: " + seconds + " s");
+        System.out.println("======================================================");
+    }
+
+    /**
+     * Entity diff against the previous mirror and time compared with a full crawl
+     */
+    private static void printRefreshReport(CatalogueMirror previous, CatalogueMirror current,
+                                           int rendered, int kept, int notRefreshed, int pageCount, long seconds) {
+        Map<String, String> before = previous.cardsByHref();
+        Map<String, String> after = current.cardsByHref();
+        List<String> added = new ArrayList<>();
+        List<String> changed = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+        for (Map.Entry<String, String> entry : after.entrySet()) {
+            String old = before.get(entry.getKey());
+            if (old == null) {
+                added.add(entry.getKey());
+            } else if (!old.equals(entry.getValue())) {
+                changed.add(entry.getKey());
+            }
+        }
+        for (String href : before.keySet()) {
+            if (!after.containsKey(href)) {
+                removed.add(href);
+            }
+        }
+
+        long fullEstimate = (long) pageCount * Math.max(previous.avgPageMillis, current.avgPageMillis)
+                / SuiteConfig.intValue("sweepWorkers", 3) / 1000;
+        System.out.println("\n================== MIRROR REFRESH ==================");
+        System.out.println("Pages rendered: " + rendered + " / " + pageCount + " (" + kept + " unchanged, carried over)");
+        if (notRefreshed > 0) {
+            System.out.println("⚠️ Not refreshed: " + notRefreshed + " page(s) failed to render, previous programs kept");
+        }
+        System.out.println("Added:   " + added.size());
+        System.out.println("Changed: " + changed.size());
+        System.out.println("Removed: " + removed.size());
+        printSample("➕", added);
+        printSample("✏️", changed);
+        printSample("➖", removed);
+        System.out.println("Refresh: " + seconds + " s | full crawl estimate: " + fullEstimate
+                + " s | saved: " + Math.max(0, fullEstimate - seconds) + " s");
+        System.out.println("====================================================");
+    }
+
+    private Map<String, String> cardsByHref() {
+        Map<String, String> cards = new HashMap<>();
+        for (int row = 0; row < rows(); row++) {
+            cards.put(hrefs.get(row), names.get(row) + "\n" + texts.get(row) + "\n" + struck.get(row));
+        }
+        return cards;
+    }
+
+    private static void printSample(String icon, List<String> hrefs) {
+        for (String href : hrefs.subList(0, Math.min(10, hrefs.size()))) {
+            System.out.println("   " + icon + " " + href);
+        }
+        if (hrefs.size() > 10) {
+            System.out.println("   ... and " + (hrefs.size() - 10) + " more");
+        }
+    }
+
+    /**
+     * What the last crawl saw for one listing page over HTTP
+     */
+    static final class PageState {
+        final String etag;
+        final String lastModified;
+        final String htmlHash;
+
+        PageState(String etag, String lastModified, String htmlHash) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.htmlHash = htmlHash;
+        }
+
+        boolean sameAs(PageState other) {
+            return !htmlHash.isEmpty() && htmlHash.equals(other.htmlHash);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Expected "Programs Found" counts computed offline from CatalogueMirror
+ * (-Dstudyleo.catalogueOracle=true). Every dropdown value has a bitset of the
+ * programs carrying it, so a filter combination is a few bitset ANDs.
+ * Programs whose card did not show a column are kept in an "unknown" bitset;
+ * they widen the answer to a range instead of guessing.
+ */
+public final class CatalogueOracle {
+
+    private static CatalogueOracle instance;
+    private static boolean loaded;
+
+    private final CatalogueMirror mirror;
+    private final List<Map<String, BitSet>> valueBits = new ArrayList<>();
+    private final List<BitSet> unknownBits = new ArrayList<>();
+    private final BitSet discountBits = new BitSet();
+    private final BitSet allBits = new BitSet();
+
+    CatalogueOracle(CatalogueMirror mirror) {
+        this.mirror = mirror;
+        allBits.set(0, mirror.rows());
+        for (int c = 0; c < CatalogueMirror.CATEGORIES.size(); c++) {
+            Map<String, BitSet> values = new HashMap<>();
+            BitSet unknown = new BitSet();
+            List<String> dictionary = mirror.dictionary(c);
+            for (int row = 0; row < mirror.rows(); row++) {
+                int code = mirror.code(c, row);
+                if (code < 0) {
+                    unknown.set(row);
+                } else {
+                    values.computeIfAbsent(normalize(dictionary.get(code)), key -> new BitSet()).set(row);
+                }
+            }
+            valueBits.add(values);
+            unknownBits.add(unknown);
+        }
+        for (int row = 0; row < mirror.rows(); row++) {
+            if (mirror.hasDiscount(row)) {
+                discountBits.set(row);
+            }
+        }
+    }
+
+    /**
+     * Oracle from the mirror file, or null when disabled or no mirror was crawled yet
+     */
+    public static synchronized CatalogueOracle get() {
+        if (!loaded) {
+            loaded = true;
+            if (SuiteConfig.flag("catalogueOracle")) {
+                CatalogueMirror mirror = CatalogueMirror.load();
+                if (mirror == null) {
+                    System.err.println("⚠️ No catalogue mirror in " + CatalogueMirror.MIRROR_FILE + " - oracle disabled");
+                } else {
+                    instance = new CatalogueOracle(mirror);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Expected count for a filter combination.
+     * filters: dropdown name (CatalogueMirror.CATEGORIES, "All "/"Any " prefix allowed) → option text.
+     * search: null for none. Returns null when a filter is outside what the mirror knows.
+     */
+    public Expectation expect(Map<String, String> filters, String search, boolean discount) {
+        long start = System.nanoTime();
+        BitSet definite = (BitSet) allBits.clone();
+        BitSet possible = (BitSet) allBits.clone();
+
+        for (Map.Entry<String, String> filter : filters.entrySet()) {
+            int c = CatalogueMirror.CATEGORIES.indexOf(filter.getKey().replaceFirst("^(All|Any) ", ""));
+            if (c < 0) {
+                return null;
+            }
+            BitSet matching = valueBits.get(c).get(normalize(filter.getValue()));
+            if (matching == null) {
+                return null;
+            }
+            definite.and(matching);
+            BitSet maybe = (BitSet) matching.clone();
+            maybe.or(unknownBits.get(c));
+            possible.and(maybe);
+        }
+
+        if (discount) {
+            definite.and(discountBits);
+            possible.and(discountBits);
+        }
+
+        if (search != null && !search.isBlank()) {
+            // Name match is certain; the site may also search university and faculty names
+            String term = normalize(search);
+            BitSet byName = new BitSet();
+            BitSet byAnyText = new BitSet();
+            for (int row = 0; row < mirror.rows(); row++) {
+                if (normalize(mirror.name(row)).contains(term)) {
+                    byName.set(row);
+                    byAnyText.set(row);
+                } else if (valueContains(row, term)) {
+                    byAnyText.set(row);
+                }
+            }
+            definite.and(byName);
+            possible.and(byAnyText);
+        }
+        return new Expectation(definite.cardinality(), possible.cardinality(), (System.nanoTime() - start) / 1000);
+    }
+
+    private boolean valueContains(int row, String term) {
+        for (int c = 0; c < CatalogueMirror.CATEGORIES.size(); c++) {
+            int code = mirror.code(c, row);
+            if (code >= 0 && normalize(mirror.dictionary(c).get(code)).contains(term)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int rows() {
+        return mirror.rows();
+    }
+
+    private static String normalize(String text) {
+        return text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public static final class Expectation {
+        public final int min;
+        public final int max;
+        public final long micros;
+
+        Expectation(int min, int max, long micros) {
+            this.min = min;
+            this.max = max;
+            this.micros = micros;
+        }
+
+        public boolean accepts(int count) {
+            return count >= min && count <= max;
+        }
+
+        public String toString() {
+            return min == max ? String.valueOf(min) : min + "-" + max;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Thin wrapper around Chrome DevTools Protocol commands sent through ChromeDriver.
+ * Commands go to the target of the currently selected window.
+ */
+public final class CdpSupport {
+
+    private CdpSupport() {
+    }
+
+    public static boolean isAvailable(WebDriver driver) {
+        return driver instanceof HasCdp;
+    }
+
+    public static Map<String, Object> execute(WebDriver driver, String command, Map<String, Object> params) {
+        if (!isAvailable(driver)) {
+            throw new UnsupportedOperationException("CDP is not available for " + driver.getClass().getSimpleName());
+        }
+        return ((HasCdp) driver).executeCdpCommand(command, params == null ? Collections.emptyMap() : params);
+    }
+
+    public static Map<String, Object> execute(WebDriver driver, String command) {
+        return execute(driver, command, null);
+    }
+}
@@ -0,0 +1,189 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Suite-wide circuit breaker for infrastructure failures (site down, page load
+ * timeouts, unreadable result counters). After -Dstudyleo.breakerThreshold
+ * consecutive failures (default 3) the circuit opens and remaining test cases
+ * are skipped at once instead of each waiting out its timeouts.
+ * While open, the site is probed over HTTP with exponential backoff; a healthy
+ * probe lets exactly one trial case through (half-open); every other case is
+ * skipped until the trial reports its outcome. A trial without an infrastructure
+ * failure closes the circuit, another one opens it again. State is reset when a
+ * menu run starts.
+ */
+public final class CircuitBreaker {
+
+    private enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final String[] INFRA_PATTERNS = {
+            "Cannot read initial count",
+            "Cannot read count",
+            "Failed to get result count",
+            "Timed out receiving message from renderer",
+            "net::ERR_",
+            "unknown error: cannot determine loading status"
+    };
+
+    private static final long FIRST_BACKOFF_MILLIS = 5000;
+    private static final long MAX_BACKOFF_MILLIS = 60000;
+
+    private static final HttpClient HTTP = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+
+    private static State state = State.CLOSED;
+    private static int consecutiveFailures;
+    private static long backoffMillis = FIRST_BACKOFF_MILLIS;
+    private static long nextProbeAt;
+    private static String reason = "";
+    private static int skipped;
+
+    private CircuitBreaker() {
+    }
+
+    /**
+     * Forget the previous run - a site that was down then is probed afresh
+     */
+    public static synchronized void reset() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        backoffMillis = FIRST_BACKOFF_MILLIS;
+        nextProbeAt = 0;
+        reason = "";
+        skipped = 0;
+    }
+
+    /**
+     * Feed an error message; infrastructure-type messages count as failures
+     */
+    public static void observe(String message) {
+        if (isInfrastructure(message)) {
+            recordFailure(message);
+        }
+    }
+
+    /**
+     * true = the message describes the site or browser failing, not the page under test
+     */
+    public static boolean isInfrastructure(String message) {
+        // Skip notices repeat the open reason, they are not new failures
+        if (message == null || message.contains("circuit open")) {
+            return false;
+        }
+        for (String pattern : INFRA_PATTERNS) {
+            if (message.contains(pattern)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Outcome of one finished case: null = the site answered (the case passed or failed
+     * on its own), otherwise the case's infrastructure failure. Ends a half-open trial.
+     */
+    public static void recordCase(String infrastructureFailure) {
+        if (infrastructureFailure == null) {
+            recordSuccess();
+        } else {
+            recordFailure(infrastructureFailure);
+        }
+    }
+
+    public static synchronized void recordFailure(String message) {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= SuiteConfig.intValue("breakerThreshold", 3)) {
+            if (state == State.HALF_OPEN) {
+                backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+            }
+            if (state != State.OPEN) {
+                System.err.println("🔌 Circuit OPEN after " + consecutiveFailures + " infrastructure failures: " + message);
+            }
+            state = State.OPEN;
+            reason = message;
+            nextProbeAt = System.currentTimeMillis() + backoffMillis;
+        }
+    }
+
+    public static synchronized void recordSuccess() {
+        if (state != State.CLOSED) {
+            System.out.println("🔌 Circuit CLOSED - site is healthy again");
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        backoffMillis = FIRST_BACKOFF_MILLIS;
+        reason = "";
+    }
+
+    /**
+     * true = run the next case. While open, probes the site once the backoff has passed.
+     */
+    public static synchronized boolean allowRequest() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.HALF_OPEN) {
+            // The trial case has not reported yet
+            skipped++;
+            return false;
+        }
+        if (System.currentTimeMillis() < nextProbeAt) {
+            skipped++;
+            return false;
+        }
+        if (probe()) {
+            System.out.println("🔌 Circuit HALF-OPEN - probe succeeded, letting one case through");
+            state = State.HALF_OPEN;
+            return true;
+        }
+        backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+        nextProbeAt = System.currentTimeMillis() + backoffMillis;
+        skipped++;
+        return false;
+    }
+
+    /**
+     * Whole-class gate: true while no case could run. Does not probe or claim the trial,
+     * so the class's first case can still be the one let through.
+     */
+    public static synchronized boolean isOpen() {
+        if (state == State.HALF_OPEN) {
+            return true;
+        }
+        return state == State.OPEN && System.currentTimeMillis() < nextProbeAt;
+    }
+
+    public static synchronized String getReason() {
+        return "circuit open (" + reason + "), next probe in "
+                + Math.max(0, nextProbeAt - System.currentTimeMillis()) / 1000 + " s";
+    }
+
+    public static synchronized void printStatus() {
+        if (state == State.CLOSED && skipped == 0) {
+            return;
+        }
+        System.out.println("🔌 Circuit breaker: " + state + ", " + skipped + " case(s) skipped"
+                + (reason.isEmpty() ? "" : " - last failure: " + reason));
+    }
+
+    private static boolean probe() {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(SiteBootstrap.SITE_URL))
+                    .timeout(Duration.ofSeconds(5))
+                    .GET()
+                    .build();
+            int status = HTTP.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            return status < 500;
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }
+    }
+}
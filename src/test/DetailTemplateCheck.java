@@ -0,0 +1,298 @@
+import org.jsoup.nodes.Element;
+import org.jsoup.parser.Parser;
+import org.jsoup.parser.StreamParser;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Browser-free template check for university and program detail pages.
+ * Detail URLs come from the site's sitemap.xml (programs also from the catalogue
+ * mirror). Every page is fetched over HTTP on a virtual thread (per-host limit
+ * shared with LinkChecker) and its server-rendered HTML is read with jsoup's
+ * StreamParser: elements are checked as they finish parsing and the download stops
+ * as soon as all required fields (name, city, tuition, degree, apply button) are
+ * found. Elements inside head, header, nav and footer do not count.
+ * -Dstudyleo.templateMaxPages limits the pages per kind (0 = all).
+ */
+public final class DetailTemplateCheck {
+
+    private static final Pattern TUITION = Pattern.compile(
+            "(?i)(?:[$€£₺]|USD|EUR|TRY)\\s*[0-9][0-9,.]*|[0-9][0-9,.]*\\s*(?:[$€£₺]|USD|EUR|TRY)|tuition");
+    private static final Pattern DEGREE = Pattern.compile(
+            "(?i)\\b(?:bachelor|master|ph\\.?d|doctorate|associate|undergraduate|postgraduate)");
+    private static final Pattern CITY_LABEL = Pattern.compile("(?i)\\b(?:city|location)\\b");
+    private static final Pattern APPLY = Pattern.compile("(?i)\\bapply\\b");
+
+    private static final String PAGE_CHROME = "head, header, nav, footer";
+
+    private static final HttpClient HTTP = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+
+    private enum Kind {
+        UNIVERSITY("/universities/"),
+        PROGRAM("/programs/");
+
+        final String linkPart;
+
+        Kind(String linkPart) {
+            this.linkPart = linkPart;
+        }
+    }
+
+    private DetailTemplateCheck() {
+    }
+
+    public static void run() {
+        long startTime = System.currentTimeMillis();
+        Map<Kind, Set<String>> urls = collectUrls();
+        List<Field> fields = fields();
+
+        List<Result> results = Collections.synchronizedList(new ArrayList<>());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Map.Entry<Kind, Set<String>> entry : urls.entrySet()) {
+                System.out.println("🧾 " + entry.getKey() + ": " + entry.getValue().size() + " detail pages");
+                for (String url : entry.getValue()) {
+                    futures.add(executor.submit(() -> results.add(check(entry.getKey(), url, fields))));
+                }
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (Exception e) {
+                    System.err.println("❌ Template check failed: " + e.getMessage());
+                }
+            }
+        }
+        printReport(results, fields, (System.currentTimeMillis() - startTime) / 1000.0);
+    }
+
+    /**
+     * Required fields; "city" also accepts any city the catalogue mirror knows
+     */
+    private static List<Field> fields() {
+        Set<String> cities = new LinkedHashSet<>();
+        CatalogueMirror mirror = CatalogueMirror.load();
+        if (mirror != null) {
+            for (String city : mirror.dictionary(CatalogueMirror.CATEGORIES.indexOf("Cities"))) {
+                cities.add(city.toLowerCase(Locale.ROOT));
+            }
+        }
+        List<Field> fields = new ArrayList<>();
+        fields.add(new Field("name", false, el -> el.nameIs("h1") && !el.text().isBlank()));
+        fields.add(new Field("city", false, el -> {
+            String own = el.ownText().trim();
+            return CITY_LABEL.matcher(own).find() || cities.contains(own.toLowerCase(Locale.ROOT));
+        }));
+        fields.add(new Field("tuition", true, el -> TUITION.matcher(el.ownText()).find()));
+        fields.add(new Field("degree", false, el -> DEGREE.matcher(el.ownText()).find()));
+        fields.add(new Field("apply button", false, el -> (el.nameIs("a") || el.nameIs("button"))
+                && APPLY.matcher(el.text()).find()));
+        return fields;
+    }
+
+    private static Map<Kind, Set<String>> collectUrls() {
+        Map<Kind, Set<String>> urls = new LinkedHashMap<>();
+        for (Kind kind : Kind.values()) {
+            urls.put(kind, new LinkedHashSet<>());
+        }
+        Set<String> visited = new LinkedHashSet<>();
+        readSitemap(URI.create(SiteBootstrap.SITE_URL).resolve("/sitemap.xml").toString(), urls, visited);
+
+        CatalogueMirror mirror = CatalogueMirror.load();
+        if (mirror != null) {
+            for (int row = 0; row < mirror.rows(); row++) {
+                urls.get(Kind.PROGRAM).add(mirror.href(row));
+            }
+        }
+
+        int maxPages = SuiteConfig.intValue("templateMaxPages", 0);
+        if (maxPages > 0) {
+            for (Map.Entry<Kind, Set<String>> entry : urls.entrySet()) {
+                entry.setValue(new LinkedHashSet<>(new ArrayList<>(entry.getValue())
+                        .subList(0, Math.min(maxPages, entry.getValue().size()))));
+            }
+        }
+        return urls;
+    }
+
+    /**
+     * Stream <loc> entries of a sitemap; a sitemap index is followed into its child sitemaps
+     */
+    private static void readSitemap(String url, Map<Kind, Set<String>> urls, Set<String> visited) {
+        if (!visited.add(url)) {
+            return;
+        }
+        List<String> children = new ArrayList<>();
+        try (InputStream body = get(url).body();
+             StreamParser parser = new StreamParser(Parser.xmlParser())) {
+            parser.parse(new InputStreamReader(body, StandardCharsets.UTF_8), url);
+            Element loc;
+            while ((loc = parser.selectNext("loc")) != null) {
+                String location = loc.text().trim();
+                if (loc.parent() != null && loc.parent().nameIs("sitemap")) {
+                    children.add(location);
+                    continue;
+                }
+                for (Kind kind : Kind.values()) {
+                    if (location.contains("/en" + kind.linkPart)) {
+                        urls.get(kind).add(location);
+                    }
+                }
+                loc.remove();
+            }
+        } catch (Exception e) {
+            System.err.println("⚠️ Sitemap " + url + " not read: " + e.getMessage());
+        }
+        for (String child : children) {
+            readSitemap(child, urls, visited);
+        }
+    }
+
+    private static Result check(Kind kind, String url, List<Field> fields) {
+        Result result = new Result(kind, url);
+        List<Field> missing = new ArrayList<>();
+        for (Field field : fields) {
+            if (kind == Kind.PROGRAM || !field.programOnly) {
+                missing.add(field);
+            }
+        }
+        Semaphore slots = LinkChecker.hostSlot(URI.create(url).getHost());
+        try {
+            slots.acquire();
+            try {
+                HttpResponse<InputStream> response = get(url);
+                result.status = response.statusCode();
+                try (InputStream body = response.body();
+                     StreamParser parser = new StreamParser(Parser.htmlParser())) {
+                    if (result.status == 200) {
+                        parser.parse(new InputStreamReader(body, StandardCharsets.UTF_8), url);
+                        Iterator<Element> elements = parser.iterator();
+                        while (!missing.isEmpty() && elements.hasNext()) {
+                            Element element = elements.next();
+                            // The site header has "Apply Now" on every page; nav and footer list cities and degrees
+                            if (element.closest(PAGE_CHROME) != null) {
+                                continue;
+                            }
+                            missing.removeIf(field -> field.present.test(element));
+                        }
+                        // All fields found early: the rest of the page is not downloaded
+                        parser.stop();
+                    }
+                }
+            } finally {
+                slots.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.error = "interrupted";
+        } catch (Exception e) {
+            result.error = e.getClass().getSimpleName() + (e.getMessage() == null ? "" : ": " + e.getMessage());
+        }
+        for (Field field : missing) {
+            result.missing.add(field.name);
+        }
+        return result;
+    }
+
+    private static HttpResponse<InputStream> get(String url) throws Exception {
+        return HTTP.send(HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(15))
+                .header("User-Agent", "Mozilla/5.0 StudyLeoAutomation template check")
+                .GET()
+                .build(), HttpResponse.BodyHandlers.ofInputStream());
+    }
+
+    private static void printReport(List<Result> results, List<Field> fields, double seconds) {
+        System.out.println("\n================== DETAIL TEMPLATES ==================");
+        Map<String, Integer> missingCounts = new LinkedHashMap<>();
+        for (Field field : fields) {
+            missingCounts.put(field.name, 0);
+        }
+        int failed = 0;
+        List<Result> failures = new ArrayList<>();
+        synchronized (results) {
+            for (Result r : results) {
+                boolean ok = r.error == null && r.status == 200 && r.missing.isEmpty();
+                if (!ok) {
+                    failed++;
+                    failures.add(r);
+                }
+                for (String name : r.missing) {
+                    missingCounts.merge(name, 1, Integer::sum);
+                }
+            }
+        }
+        for (Kind kind : Kind.values()) {
+            long total = results.stream().filter(r -> r.kind == kind).count();
+            long passed = results.stream().filter(r -> r.kind == kind && r.error == null
+                    && r.status == 200 && r.missing.isEmpty()).count();
+            System.out.printf("%-11s %5d pages | %5d complete\n", kind, total, passed);
+        }
+        for (Map.Entry<String, Integer> entry : missingCounts.entrySet()) {
+            System.out.printf("   missing %-13s %5d\n", entry.getKey(), entry.getValue());
+        }
+        for (Result r : failures.subList(0, Math.min(20, failures.size()))) {
+            String problem = r.error != null ? r.error : r.status != 200 ? "HTTP " + r.status : "missing " + r.missing;
+            System.out.println("   ❌ " + problem + " " + r.url);
+        }
+        if (failures.size() > 20) {
+            System.out.println("   ... and " + (failures.size() - 20) + " more");
+        }
+        if (!results.isEmpty() && failed == results.size()) {
+            System.out.println("⚠️ No page passed - the detail pages may be rendered in the browser only");
+        }
+        System.out.printf("Checked %d pages in %.1f s (%.0f pages/s)\n",
+                results.size(), seconds, seconds > 0 ? results.size() / seconds : 0);
+        System.out.println("======================================================");
+    }
+
+    private static final class Field {
+        final String name;
+        final boolean programOnly;
+        final Predicate<Element> present;
+
+        Field(String name, boolean programOnly, Predicate<Element> present) {
+            this.name = name;
+            this.programOnly = programOnly;
+            this.present = present;
+        }
+    }
+
+    private static final class Result {
+        final Kind kind;
+        final String url;
+        final List<String> missing = new ArrayList<>();
+        int status;
+        String error;
+
+        Result(Kind kind, String url) {
+            this.kind = kind;
+            this.url = url;
+        }
+    }
+}
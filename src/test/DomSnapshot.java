@@ -0,0 +1,177 @@
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One-round-trip snapshot of the current page for read-only assertions.
+ * A single script marks every element's visibility (and live input values) as
+ * attributes, serializes document.documentElement.outerHTML and removes the marks
+ * again before the browser renders. The HTML is parsed with jsoup, so CSS and XPath
+ * queries, texts and counts are answered locally instead of one WebDriver call each.
+ * A snapshot is a frozen page state: take a new one after every interaction.
+ * A registry locator that matches nothing is healed on the live page (with
+ * -Dstudyleo.selfHeal=true) and the healed CSS path is queried in the snapshot.
+ */
+public final class DomSnapshot {
+
+    private static final String VISIBLE_ATTR = "data-sl-visible";
+    private static final String VALUE_ATTR = "data-sl-value";
+
+    private static final String CAPTURE_SCRIPT =
+            "var all = document.documentElement.querySelectorAll('*');" +
+            "for (var i = 0; i < all.length; i++) {" +
+            "  var el = all[i], r = el.getBoundingClientRect(), st = getComputedStyle(el);" +
+            "  var visible = r.width > 0 && r.height > 0 && st.visibility !== 'hidden' && st.display !== 'none'" +
+            "    && st.opacity !== '0';" +
+            "  el.setAttribute('" + VISIBLE_ATTR + "', visible ? '1' : '0');" +
+            "  if ('value' in el && typeof el.value === 'string') el.setAttribute('" + VALUE_ATTR + "', el.value);" +
+            "}" +
+            "var html = document.documentElement.outerHTML;" +
+            "for (var j = 0; j < all.length; j++) {" +
+            "  all[j].removeAttribute('" + VISIBLE_ATTR + "'); all[j].removeAttribute('" + VALUE_ATTR + "');" +
+            "}" +
+            "return { html: html, url: location.href, title: document.title };";
+
+    private final WebDriver driver;
+    private final Document document;
+    private final String url;
+    private final String title;
+    private final long capturedAt;
+
+    private DomSnapshot(WebDriver driver, Document document, String url, String title) {
+        this.driver = driver;
+        this.document = document;
+        this.url = url;
+        this.title = title;
+        this.capturedAt = System.currentTimeMillis();
+    }
+
+    @SuppressWarnings("unchecked")
+    public static DomSnapshot capture(WebDriver driver) {
+        Map<String, Object> page = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(CAPTURE_SCRIPT);
+        String url = String.valueOf(page.get("url"));
+        return new DomSnapshot(driver, Jsoup.parse(String.valueOf(page.get("html")), url),
+                url, String.valueOf(page.get("title")));
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public long ageMillis() {
+        return System.currentTimeMillis() - capturedAt;
+    }
+
+    // ==================== QUERIES ====================
+
+    public List<Element> select(String css) {
+        return document.select(css);
+    }
+
+    public List<Element> selectXpath(String xpath) {
+        return document.selectXpath(xpath);
+    }
+
+    /**
+     * Elements for a Selenium locator; registry locators resolve like the live lookup
+     * (promoted candidate first, then the primary)
+     */
+    public List<Element> findAll(By by) {
+        if (by instanceof LocatorRegistry.Locator) {
+            LocatorRegistry.Locator locator = (LocatorRegistry.Locator) by;
+            By promoted = locator.getPromoted();
+            if (promoted != null) {
+                List<Element> found = findPlain(promoted);
+                if (!found.isEmpty()) {
+                    return found;
+                }
+            }
+            List<Element> found = findPlain(locator.getPrimary());
+            return found.isEmpty() ? findHealed(locator) : found;
+        }
+        return findPlain(by);
+    }
+
+    public List<Element> findVisible(By by) {
+        List<Element> visible = new ArrayList<>();
+        for (Element element : findAll(by)) {
+            if (isVisible(element)) {
+                visible.add(element);
+            }
+        }
+        return visible;
+    }
+
+    public int count(By by) {
+        return findAll(by).size();
+    }
+
+    /**
+     * Same as WebElement.getText(): hidden elements have no text
+     */
+    public String text(Element element) {
+        return isVisible(element) ? element.text().trim() : "";
+    }
+
+    public List<String> texts(By by) {
+        List<String> texts = new ArrayList<>();
+        for (Element element : findAll(by)) {
+            texts.add(text(element));
+        }
+        return texts;
+    }
+
+    public boolean isVisible(Element element) {
+        return !"0".equals(element.attr(VISIBLE_ATTR));
+    }
+
+    /**
+     * Live value of an input / textarea / select at capture time
+     */
+    public String value(Element element) {
+        return element.attr(VALUE_ATTR);
+    }
+
+    private List<Element> findHealed(LocatorRegistry.Locator locator) {
+        if (!LocatorHealer.isEnabled()) {
+            return new ArrayList<>();
+        }
+        String page;
+        try {
+            page = URI.create(url).getPath();
+        } catch (IllegalArgumentException e) {
+            page = "";
+        }
+        By healed = LocatorHealer.healedOn(locator.getName(), page);
+        if (healed == null && !locator.heal(driver).isEmpty()) {
+            healed = LocatorHealer.healedOn(locator.getName(), page);
+        }
+        return healed == null ? new ArrayList<>() : findPlain(healed);
+    }
+
+    private List<Element> findPlain(By by) {
+        String description = by.toString();
+        if (description.startsWith("By.cssSelector: ")) {
+            return select(description.substring("By.cssSelector: ".length()));
+        }
+        if (description.startsWith("By.xpath: ")) {
+            return selectXpath(description.substring("By.xpath: ".length()));
+        }
+        if (description.startsWith("By.id: ")) {
+            return select("#" + description.substring("By.id: ".length()));
+        }
+        throw new IllegalArgumentException("Locator not supported in a snapshot: " + description);
+    }
+}
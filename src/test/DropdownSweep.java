@@ -0,0 +1,411 @@
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Exhaustive dropdown sweep for the Programs and Universities filters.
+ * Phase 1 lists every option of every dropdown; phase 2 spreads one case per
+ * option over -Dstudyleo.sweepWorkers browser contexts (default 3). A case opens
+ * the page clean, selects the option and expects the result counter to change.
+ * Every result is appended to logs/dropdown-sweep.jsonl; with -Dstudyleo.resume=true
+ * cases already in that file are not run again. Cases refused by the circuit breaker
+ * or the time budget are recorded as skipped and run again on resume.
+ */
+public final class DropdownSweep {
+
+    private static final Path PROGRESS_FILE = Paths.get("logs", "dropdown-sweep.jsonl");
+    private static final Json JSON = new Json();
+
+    private static final List<Target> TARGETS = List.of(
+            new Target("/programs", "Universities", LocatorRegistry.PROGRAMS_UNIVERSITIES),
+            new Target("/programs", "Faculties", LocatorRegistry.PROGRAMS_FACULTIES),
+            new Target("/programs", "Cities", LocatorRegistry.PROGRAMS_CITIES),
+            new Target("/programs", "Degree Types", LocatorRegistry.PROGRAMS_DEGREE_TYPES),
+            new Target("/programs", "Languages", LocatorRegistry.PROGRAMS_LANGUAGES),
+            new Target("/programs", "Duration", LocatorRegistry.PROGRAMS_DURATION),
+            new Target("/universities", "Cities", LocatorRegistry.UNIVERSITIES_CITIES),
+            new Target("/universities", "Faculties", LocatorRegistry.UNIVERSITIES_FACULTIES),
+            new Target("/universities", "Programs", LocatorRegistry.UNIVERSITIES_PROGRAMS),
+            new Target("/universities", "Degree Types", LocatorRegistry.UNIVERSITIES_DEGREE_TYPES)
+    );
+
+    private static final String OPTION_TEXTS_SCRIPT =
+            "return Array.from(document.querySelectorAll(arguments[0]))" +
+            ".map(function (o) { return (o.innerText || o.textContent || '').trim(); });";
+
+    private DropdownSweep() {
+    }
+
+    public static void run() {
+        int workers = SuiteConfig.intValue("sweepWorkers", 3);
+        long startTime = System.currentTimeMillis();
+        Set<String> done = RunCheckpoint.isResume() ? loadDone() : new HashSet<>();
+        if (!RunCheckpoint.isResume()) {
+            resetProgress();
+        }
+
+        BrowserContextPool pool = BrowserContextPool.launch(workers);
+        ExecutorService executor = Executors.newFixedThreadPool(pool.getMaxContexts());
+        List<Result> results = new ArrayList<>();
+        try {
+            Queue<Case> queue = new ConcurrentLinkedQueue<>();
+            for (Case c : listCases(pool)) {
+                if (!done.contains(c.key())) {
+                    queue.add(c);
+                }
+            }
+            System.out.println("🧪 " + queue.size() + " dropdown cases to run ("
+                    + done.size() + " already in " + PROGRESS_FILE + ")");
+
+            List<Future<List<Result>>> futures = new ArrayList<>();
+            for (int i = 0; i < pool.getMaxContexts(); i++) {
+                String owner = "sweep-" + (i + 1);
+                futures.add(executor.submit(() -> work(pool, owner, queue)));
+            }
+            for (Future<List<Result>> future : futures) {
+                try {
+                    results.addAll(future.get());
+                } catch (Exception e) {
+                    System.err.println("❌ Sweep worker failed: " + e.getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+            pool.close();
+        }
+
+        printReport(results, (System.currentTimeMillis() - startTime) / 1000);
+    }
+
+    /**
+     * Phase 1: open every dropdown once and list its options
+     */
+    private static List<Case> listCases(BrowserContextPool pool) throws InterruptedException {
+        List<Case> cases = new ArrayList<>();
+        BrowserContextPool.Lease lease = pool.acquire("sweep-list");
+        try {
+            WebDriver driver = lease.getDriver();
+            PageActions actions = new PageActions(driver);
+            for (Target target : TARGETS) {
+                try {
+                    SiteBootstrap.openDirect(driver, target.page);
+                    int before = cases.size();
+                    for (String text : listOptions(driver, actions, target.dropdown)) {
+                        cases.add(new Case(target, text));
+                    }
+                    System.out.println("📋 " + target.page + " / " + target.name + ": " + (cases.size() - before) + " options");
+                } catch (Exception e) {
+                    System.err.println("⚠️ Could not list " + target.page + " / " + target.name + ": " + e.getMessage());
+                }
+            }
+        } finally {
+            pool.release(lease);
+        }
+        return cases;
+    }
+
+    /**
+     * Phase 2: one worker = one browser context, takes cases until the queue is empty
+     */
+    private static List<Result> work(BrowserContextPool pool, String owner, Queue<Case> queue) throws InterruptedException {
+        List<Result> results = new ArrayList<>();
+        BrowserContextPool.Lease lease = pool.acquire(owner);
+        try {
+            WebDriver driver = lease.getDriver();
+            PageActions actions = new PageActions(driver);
+            Case next;
+            while ((next = queue.poll()) != null) {
+                Result result;
+                if (!CircuitBreaker.allowRequest()) {
+                    result = Result.skipped(next, "circuit open");
+                } else if (!TimeBudget.hasBudgetFor("DropdownSweep." + next.key())) {
+                    result = Result.skipped(next, "time budget");
+                } else {
+                    result = runCase(driver, actions, next);
+                }
+                if (!result.skipped) {
+                    // Also ends a half-open trial when the case failed on its own
+                    CircuitBreaker.recordCase(CircuitBreaker.isInfrastructure(result.detail) ? result.detail : null);
+                }
+                saveProgress(result);
+                results.add(result);
+            }
+        } finally {
+            pool.release(lease);
+        }
+        return results;
+    }
+
+    private static Result runCase(WebDriver driver, PageActions actions, Case c) {
+        try {
+            SiteBootstrap.openDirect(driver, c.target.page);
+            int before = readCount(driver, c.target.page);
+            if (before == -1) {
+                return new Result(c, false, -1, -1, "Cannot read initial count");
+            }
+
+            if (!selectOption(driver, actions, c.target.dropdown, c.option)) {
+                return new Result(c, false, before, -1, "Option no longer listed");
+            }
+
+            try {
+                new AdaptiveWait(driver, Duration.ofSeconds(10)).until(d -> {
+                    int current = readCount(d, c.target.page);
+                    return current != -1 && current != before;
+                });
+            } catch (TimeoutException e) {
+                return new Result(c, false, before, readCount(driver, c.target.page), "Count did not change");
+            }
+            return new Result(c, true, before, readCount(driver, c.target.page), "");
+        } catch (Exception e) {
+            return new Result(c, false, -1, -1, e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
+
+    // ==================== SHARED WITH FilterExplorer ====================
+
+    /**
+     * Open the dropdown and return its selectable option texts (no "All ..." / "Any Duration")
+     */
+    @SuppressWarnings("unchecked")
+    static List<String> listOptions(WebDriver driver, PageActions actions, By dropdown) {
+        openDropdown(driver, actions, dropdown);
+        List<String> texts = (List<String>) ((JavascriptExecutor) driver)
+                .executeScript(OPTION_TEXTS_SCRIPT, cssOf(LocatorRegistry.DROPDOWN_OPTIONS));
+        List<String> selectable = new ArrayList<>();
+        for (String text : new LinkedHashSet<>(texts)) {
+            if (isSelectable(text)) {
+                selectable.add(text);
+            }
+        }
+        return selectable;
+    }
+
+    /**
+     * Open the dropdown and click the option with exactly this text. false = not listed.
+     */
+    static boolean selectOption(WebDriver driver, PageActions actions, By dropdown, String optionText) {
+        List<WebElement> options = openDropdown(driver, actions, dropdown);
+        for (WebElement candidate : options) {
+            String text = String.valueOf(((JavascriptExecutor) driver)
+                    .executeScript("return (arguments[0].innerText || arguments[0].textContent || '').trim();", candidate));
+            if (text.equals(optionText)) {
+                ((JavascriptExecutor) driver).executeScript("arguments[0].click();", candidate);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<WebElement> openDropdown(WebDriver driver, PageActions actions, By dropdown) {
+        actions.click(new AdaptiveWait(driver, Duration.ofSeconds(10))
+                .until(ExpectedConditions.elementToBeClickable(dropdown)));
+        return new AdaptiveWait(driver, Duration.ofSeconds(10))
+                .until(ExpectedConditions.presenceOfAllElementsLocatedBy(LocatorRegistry.DROPDOWN_OPTIONS));
+    }
+
+    /**
+     * Same counters the filter tests read: "6,588 Programs Found", "78 Universities Found"
+     */
+    static int readCount(WebDriver driver, String page) {
+        boolean programs = "/programs".equals(page);
+        By counter = programs ? LocatorRegistry.PROGRAMS_RESULT_COUNTER : LocatorRegistry.UNIVERSITIES_RESULT_COUNTER;
+        for (WebElement span : LocatorRegistry.findNow(driver, counter)) {
+            try {
+                String text = span.getText().trim();
+                if (programs && !text.contains("Programs Found")) {
+                    continue;
+                }
+                String digits = text.replaceAll("[^0-9]", "");
+                if (!digits.isEmpty()) {
+                    return Integer.parseInt(digits);
+                }
+            } catch (Exception e) {
+                // Counter re-rendered while reading
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isSelectable(String text) {
+        String check = text.toLowerCase().trim();
+        return !check.isEmpty() && !check.equals("all") && !check.startsWith("all ") && !check.contains("any duration");
+    }
+
+    private static String cssOf(By by) {
+        By primary = by instanceof LocatorRegistry.Locator ? ((LocatorRegistry.Locator) by).getPrimary() : by;
+        return primary.toString().replaceFirst("^By\\.cssSelector: ", "");
+    }
+
+    // ==================== PROGRESS ====================
+
+    private static void resetProgress() {
+        try {
+            Files.deleteIfExists(PROGRESS_FILE);
+        } catch (IOException e) {
+            System.err.println("⚠️ Could not reset sweep progress: " + e.getMessage());
+        }
+    }
+
+    private static Set<String> loadDone() {
+        Set<String> done = new HashSet<>();
+        if (!Files.exists(PROGRESS_FILE)) {
+            return done;
+        }
+        try {
+            for (String line : Files.readAllLines(PROGRESS_FILE, StandardCharsets.UTF_8)) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    Map<String, Object> entry = JSON.toType(line, Json.MAP_TYPE);
+                    if (!Boolean.TRUE.equals(entry.get("skipped"))) {
+                        done.add(String.valueOf(entry.get("key")));
+                    }
+                } catch (Exception e) {
+                    // Last line may be cut off by a crash
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("⚠️ Could not read sweep progress: " + e.getMessage());
+        }
+        return done;
+    }
+
+    private static synchronized void saveProgress(Result result) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("key", result.c.key());
+        entry.put("passed", result.passed);
+        entry.put("skipped", result.skipped);
+        entry.put("before", result.before);
+        entry.put("after", result.after);
+        entry.put("detail", result.detail);
+        try {
+            Files.createDirectories(PROGRESS_FILE.getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(PROGRESS_FILE, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                writer.write(JSON.toJson(entry).replace("\n", " "));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            System.err.println("⚠️ Could not save sweep progress: " + e.getMessage());
+        }
+    }
+
+    private static void printReport(List<Result> results, long seconds) {
+        Map<String, int[]> perDropdown = new LinkedHashMap<>();
+        Map<String, Integer> skipReasons = new LinkedHashMap<>();
+        List<Result> failures = new ArrayList<>();
+        int skipped = 0;
+        for (Result r : results) {
+            int[] counts = perDropdown.computeIfAbsent(r.c.target.page + " / " + r.c.target.name, k -> new int[3]);
+            counts[r.skipped ? 2 : r.passed ? 0 : 1]++;
+            if (r.skipped) {
+                skipReasons.merge(r.detail, 1, Integer::sum);
+                skipped++;
+            } else if (!r.passed) {
+                failures.add(r);
+            }
+        }
+
+        System.out.println("\n================== DROPDOWN SWEEP ==================");
+        System.out.printf("%-32s %7s | %7s | %7s\n", "Dropdown", "Passed", "Failed", "Skipped");
+        for (Map.Entry<String, int[]> entry : perDropdown.entrySet()) {
+            int[] counts = entry.getValue();
+            System.out.printf("%-32s %7d | %7d | %7d\n", entry.getKey(), counts[0], counts[1], counts[2]);
+        }
+        if (!failures.isEmpty()) {
+            System.out.println("----------------------------------------------------");
+            for (Result r : failures) {
+                System.out.println("❌ " + r.c.key() + " - " + r.detail);
+            }
+        }
+        for (Map.Entry<String, Integer> entry : skipReasons.entrySet()) {
+            System.out.println("⏭️ Skipped (" + entry.getKey() + "): " + entry.getValue());
+        }
+        System.out.println("Cases run: " + (results.size() - skipped) + ", skipped: " + skipped + " in " + seconds + " s");
+        if (skipped > 0) {
+            System.out.println("⚠️ Sweep incomplete - rerun with -Dstudyleo.resume=true for the skipped cases");
+        }
+        System.out.println("====================================================");
+    }
+
+    private static final class Target {
+        final String page;
+        final String name;
+        final By dropdown;
+
+        Target(String page, String name, By dropdown) {
+            this.page = page;
+            this.name = name;
+            this.dropdown = dropdown;
+        }
+    }
+
+    private static final class Case {
+        final Target target;
+        final String option;
+
+        Case(Target target, String option) {
+            this.target = target;
+            this.option = option;
+        }
+
+        String key() {
+            return target.page + "|" + target.name + "|" + option;
+        }
+    }
+
+    private static final class Result {
+        final Case c;
+        final boolean passed;
+        final boolean skipped;
+        final int before;
+        final int after;
+        final String detail;
+
+        Result(Case c, boolean passed, int before, int after, String detail) {
+            this(c, passed, false, before, after, detail);
+        }
+
+        private Result(Case c, boolean passed, boolean skipped, int before, int after, String detail) {
+            this.c = c;
+            this.passed = passed;
+            this.skipped = skipped;
+            this.before = before;
+            this.after = after;
+            this.detail = detail;
+        }
+
+        static Result skipped(Case c, String reason) {
+            return new Result(c, false, true, -1, -1, reason);
+        }
+    }
+}
@@ -0,0 +1,425 @@
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Filter-combination explorer for the Programs page.
+ * Factors: search text, Has Discount, the six dropdowns and Sort By, each with a few
+ * levels (-Dstudyleo.explorerValues options per dropdown, default 2). Every t-way
+ * combination up to -Dstudyleo.explorerDepth (default 2 = pairwise) is explored level
+ * by level, so the counts of all its sub-combinations are already known:
+ * - monotonicity: adding a filter must never increase "Programs Found"
+ * - pruning: supersets of a combination that found 0 programs are not run
+ * Each level is spread over -Dstudyleo.sweepWorkers browser contexts. With
+ * -Dstudyleo.catalogueOracle=true every count is also checked against CatalogueOracle.
+ */
+public final class FilterExplorer {
+
+    private static final String PAGE = "/programs";
+    private static final long SETTLE_MILLIS = 600;
+    // A filter may legitimately change neither the count nor the first card
+    private static final long CHANGE_MILLIS = 5000;
+    // measure(): the dropdown does not offer the option under the other filters
+    private static final int UNAVAILABLE = -2;
+
+    private static final String FIRST_CARD_SCRIPT =
+            "var a = document.querySelector(\"main a[href*='/programs/']\"); return a ? a.href : '';";
+
+    private enum Kind { SEARCH, TOGGLE, DROPDOWN }
+
+    private final List<Factor> factors = new ArrayList<>();
+    private final Map<String, Integer> counts = new ConcurrentHashMap<>();
+    private final List<int[]> zeroCombos = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> violations = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> errors = Collections.synchronizedList(new ArrayList<>());
+    private final List<int[]> unavailableCombos = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger skippedByBreaker = new AtomicInteger();
+    private final AtomicInteger skippedByBudget = new AtomicInteger();
+    private int explored;
+    private int pruned;
+
+    public static void run() {
+        new FilterExplorer().explore();
+    }
+
+    private void explore() {
+        int depth = SuiteConfig.intValue("explorerDepth", 2);
+        long startTime = System.currentTimeMillis();
+        BrowserContextPool pool = BrowserContextPool.launch(SuiteConfig.intValue("sweepWorkers", 3));
+        try {
+            int baseline = listFactors(pool);
+            if (baseline == -1) {
+                System.err.println("❌ Cannot read the unfiltered Programs count - explorer stopped");
+                return;
+            }
+            counts.put(key(empty()), baseline);
+            System.out.println("📊 Unfiltered: " + baseline + " programs, " + factors.size() + " factors");
+
+            for (int level = 1; level <= Math.min(depth, factors.size()); level++) {
+                Queue<int[]> queue = new ConcurrentLinkedQueue<>();
+                for (int[] combo : combinations(level)) {
+                    if (isPruned(combo)) {
+                        pruned++;
+                    } else {
+                        queue.add(combo);
+                    }
+                }
+                System.out.println("🔀 Level " + level + ": " + queue.size() + " combinations to run");
+                explored += runLevel(pool, queue);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            pool.close();
+        }
+        printReport((System.currentTimeMillis() - startTime) / 1000);
+    }
+
+    /**
+     * Build the factor list from the live page; returns the unfiltered count
+     */
+    private int listFactors(BrowserContextPool pool) throws InterruptedException {
+        int valuesPerDropdown = SuiteConfig.intValue("explorerValues", 2);
+        BrowserContextPool.Lease lease = pool.acquire("explorer-list");
+        try {
+            WebDriver driver = lease.getDriver();
+            PageActions actions = new PageActions(driver);
+
+            factors.add(new Factor("Search", Kind.SEARCH, LocatorRegistry.PROGRAMS_SEARCH_BOX,
+                    List.of(SuiteConfig.value("explorerSearch", "engineering"))));
+            factors.add(new Factor("Has Discount", Kind.TOGGLE, LocatorRegistry.PROGRAMS_HAS_DISCOUNT, List.of("on")));
+
+            Object[][] dropdowns = {
+                    {"Universities", LocatorRegistry.PROGRAMS_UNIVERSITIES},
+                    {"Faculties", LocatorRegistry.PROGRAMS_FACULTIES},
+                    {"Cities", LocatorRegistry.PROGRAMS_CITIES},
+                    {"Degree Types", LocatorRegistry.PROGRAMS_DEGREE_TYPES},
+                    {"Languages", LocatorRegistry.PROGRAMS_LANGUAGES},
+                    {"Duration", LocatorRegistry.PROGRAMS_DURATION},
+                    {"Sort By", LocatorRegistry.PROGRAMS_SORT_BY}
+            };
+            int baseline = -1;
+            for (Object[] dropdown : dropdowns) {
+                SiteBootstrap.openDirect(driver, PAGE);
+                if (baseline == -1) {
+                    baseline = settledCount(driver, null);
+                }
+                try {
+                    List<String> options = DropdownSweep.listOptions(driver, actions, (LocatorRegistry.Locator) dropdown[1]);
+                    List<String> levels = options.subList(0, Math.min(valuesPerDropdown, options.size()));
+                    if (!levels.isEmpty()) {
+                        factors.add(new Factor((String) dropdown[0], Kind.DROPDOWN,
+                                (LocatorRegistry.Locator) dropdown[1], new ArrayList<>(levels)));
+                    }
+                } catch (Exception e) {
+                    System.err.println("⚠️ Could not list " + dropdown[0] + ": " + e.getMessage());
+                }
+            }
+            return baseline;
+        } finally {
+            pool.release(lease);
+        }
+    }
+
+    private int runLevel(BrowserContextPool pool, Queue<int[]> queue) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(pool.getMaxContexts());
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < pool.getMaxContexts(); i++) {
+            String owner = "explorer-" + (i + 1);
+            futures.add(executor.submit(() -> work(pool, owner, queue)));
+        }
+        int done = 0;
+        try {
+            for (Future<Integer> future : futures) {
+                try {
+                    done += future.get();
+                } catch (Exception e) {
+                    System.err.println("❌ Explorer worker failed: " + e.getMessage());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return done;
+    }
+
+    private int work(BrowserContextPool pool, String owner, Queue<int[]> queue) throws InterruptedException {
+        int done = 0;
+        BrowserContextPool.Lease lease = pool.acquire(owner);
+        try {
+            WebDriver driver = lease.getDriver();
+            PageActions actions = new PageActions(driver);
+            int[] combo;
+            while ((combo = queue.poll()) != null) {
+                if (!CircuitBreaker.allowRequest()) {
+                    skippedByBreaker.incrementAndGet();
+                    continue;
+                }
+                if (!TimeBudget.hasBudgetFor("FilterExplorer." + describe(combo))) {
+                    skippedByBudget.incrementAndGet();
+                    continue;
+                }
+                int count = measure(driver, actions, combo);
+                if (count == UNAVAILABLE) {
+                    // Normal for dependent dropdowns: the site works, the combination does not exist
+                    unavailableCombos.add(combo);
+                    CircuitBreaker.recordSuccess();
+                    continue;
+                }
+                done++;
+                if (count == -1) {
+                    errors.add(describe(combo));
+                    CircuitBreaker.observe("Cannot read count");
+                    continue;
+                }
+                CircuitBreaker.recordSuccess();
+                counts.put(key(combo), count);
+                if (count == 0) {
+                    zeroCombos.add(combo);
+                }
+                checkMonotonic(combo, count);
+                checkOracle(combo, count);
+            }
+        } finally {
+            pool.release(lease);
+        }
+        return done;
+    }
+
+    /**
+     * Open the page clean, apply the filters of the combination in factor order, read the count.
+     * UNAVAILABLE when a dropdown does not offer the option, -1 when the count cannot be read.
+     */
+    private int measure(WebDriver driver, PageActions actions, int[] combo) {
+        try {
+            SiteBootstrap.openDirect(driver, PAGE);
+            int count = -1;
+            for (int f = 0; f < combo.length; f++) {
+                if (combo[f] < 0) {
+                    continue;
+                }
+                Factor factor = factors.get(f);
+                String level = factor.levels.get(combo[f]);
+                String before = pageState(driver);
+                switch (factor.kind) {
+                    case SEARCH:
+                        actions.type(awaitClickable(driver, factor), level);
+                        break;
+                    case TOGGLE:
+                        actions.click(awaitClickable(driver, factor));
+                        break;
+                    default:
+                        if (!DropdownSweep.selectOption(driver, actions, factor.locator, level)) {
+                            return UNAVAILABLE;
+                        }
+                }
+                count = settledCount(driver, before);
+            }
+            return count;
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Every sub-combination with one filter less must have at least as many programs
+     */
+    private void checkMonotonic(int[] combo, int count) {
+        for (int f = 0; f < combo.length; f++) {
+            if (combo[f] < 0) {
+                continue;
+            }
+            int[] parent = combo.clone();
+            parent[f] = -1;
+            Integer parentCount = counts.get(key(parent));
+            if (parentCount != null && count > parentCount) {
+                violations.add(describe(combo) + " = " + count + " > " + describe(parent) + " = " + parentCount);
+            }
+        }
+    }
+
+    /**
+     * With -Dstudyleo.catalogueOracle=true the count must also match the local catalogue mirror
+     */
+    private void checkOracle(int[] combo, int count) {
+        CatalogueOracle oracle = CatalogueOracle.get();
+        if (oracle == null) {
+            return;
+        }
+        Map<String, String> filters = new HashMap<>();
+        String search = null;
+        boolean discount = false;
+        for (int f = 0; f < combo.length; f++) {
+            if (combo[f] < 0) {
+                continue;
+            }
+            Factor factor = factors.get(f);
+            if (factor.kind == Kind.SEARCH) {
+                search = factor.levels.get(combo[f]);
+            } else if (factor.kind == Kind.TOGGLE) {
+                discount = true;
+            } else if (CatalogueMirror.CATEGORIES.contains(factor.name)) {
+                filters.put(factor.name, factor.levels.get(combo[f]));
+            }
+        }
+        CatalogueOracle.Expectation expected = oracle.expect(filters, search, discount);
+        if (expected != null && !expected.accepts(count)) {
+            violations.add(describe(combo) + " = " + count + ", catalogue mirror expects " + expected);
+        }
+    }
+
+    private boolean isPruned(int[] combo) {
+        return containsSubset(zeroCombos, combo) || containsSubset(unavailableCombos, combo);
+    }
+
+    private static boolean containsSubset(List<int[]> subsets, int[] combo) {
+        synchronized (subsets) {
+            for (int[] subset : subsets) {
+                boolean superset = true;
+                for (int f = 0; f < subset.length && superset; f++) {
+                    superset = subset[f] < 0 || subset[f] == combo[f];
+                }
+                if (superset) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * All combinations that set exactly `size` factors, one level each
+     */
+    private List<int[]> combinations(int size) {
+        List<int[]> result = new ArrayList<>();
+        collect(0, size, empty(), result);
+        return result;
+    }
+
+    private void collect(int from, int left, int[] current, List<int[]> result) {
+        if (left == 0) {
+            result.add(current.clone());
+            return;
+        }
+        for (int f = from; f <= factors.size() - left; f++) {
+            for (int level = 0; level < factors.get(f).levels.size(); level++) {
+                current[f] = level;
+                collect(f + 1, left - 1, current, result);
+                current[f] = -1;
+            }
+        }
+    }
+
+    /**
+     * Count and first card, to see when a filter has re-rendered the list
+     */
+    private static String pageState(WebDriver driver) {
+        return DropdownSweep.readCount(driver, PAGE) + "|"
+                + ((JavascriptExecutor) driver).executeScript(FIRST_CARD_SCRIPT);
+    }
+
+    /**
+     * After a filter action (before = pageState() taken before it): wait until the count or
+     * first card changes (max CHANGE_MILLIS), so the pre-filter count is not read as settled.
+     * Then read the counter until two reads SETTLE_MILLIS apart agree (max 10 s).
+     */
+    private static int settledCount(WebDriver driver, String before) throws InterruptedException {
+        if (before != null) {
+            long changeDeadline = System.currentTimeMillis() + TimeBudget.clampMillis(CHANGE_MILLIS);
+            while (System.currentTimeMillis() < changeDeadline && before.equals(pageState(driver))) {
+                Thread.sleep(100);
+            }
+        }
+        long deadline = System.currentTimeMillis() + TimeBudget.clampMillis(10000);
+        int previous = DropdownSweep.readCount(driver, PAGE);
+        while (System.currentTimeMillis() < deadline) {
+            Thread.sleep(SETTLE_MILLIS);
+            int current = DropdownSweep.readCount(driver, PAGE);
+            if (current != -1 && current == previous) {
+                return current;
+            }
+            previous = current;
+        }
+        return previous;
+    }
+
+    private static WebElement awaitClickable(WebDriver driver, Factor factor) {
+        return new AdaptiveWait(driver, Duration.ofSeconds(10))
+                .until(ExpectedConditions.elementToBeClickable(factor.locator));
+    }
+
+    private int[] empty() {
+        int[] combo = new int[factors.size()];
+        Arrays.fill(combo, -1);
+        return combo;
+    }
+
+    private static String key(int[] combo) {
+        return Arrays.toString(combo);
+    }
+
+    private String describe(int[] combo) {
+        List<String> parts = new ArrayList<>();
+        for (int f = 0; f < combo.length; f++) {
+            if (combo[f] >= 0) {
+                parts.add(factors.get(f).name + "=" + factors.get(f).levels.get(combo[f]));
+            }
+        }
+        return parts.isEmpty() ? "(no filter)" : "{" + String.join(", ", parts) + "}";
+    }
+
+    private void printReport(long seconds) {
+        System.out.println("\n================== FILTER COMBINATIONS ==================");
+        System.out.println("Explored:   " + explored);
+        System.out.println("Pruned:     " + (pruned + unavailableCombos.size())
+                + " (supersets of 0-result or unavailable combinations: " + pruned
+                + ", option not offered under the other filters: " + unavailableCombos.size() + ")");
+        System.out.println("Zero sets:  " + zeroCombos.size());
+        System.out.println("Unreadable: " + errors.size());
+        System.out.println("Skipped:    " + (skippedByBreaker.get() + skippedByBudget.get())
+                + " (circuit breaker: " + skippedByBreaker.get() + ", time budget: " + skippedByBudget.get() + ")");
+        System.out.println("Violations: " + violations.size());
+        synchronized (violations) {
+            for (String violation : violations) {
+                System.out.println("❌ " + violation);
+            }
+        }
+        synchronized (errors) {
+            for (String error : errors) {
+                System.out.println("⚠️ Count unreadable: " + error);
+            }
+        }
+        System.out.println("Duration: " + seconds + " s");
+        System.out.println("=========================================================");
+    }
+
+    private static final class Factor {
+        final String name;
+        final Kind kind;
+        final LocatorRegistry.Locator locator;
+        final List<String> levels;
+
+        Factor(String name, Kind kind, LocatorRegistry.Locator locator, List<String> levels) {
+            this.name = name;
+            this.kind = kind;
+            this.locator = locator;
+            this.levels = levels;
+        }
+    }
+}
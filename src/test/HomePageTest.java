@@ -9,10 +9,8 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 import io.github.bonigarcia.wdm.WebDriverManager;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
-import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.IOException;
@@ -21,15 +19,18 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
-public class HomePageTest {
+public class HomePageTest implements SuiteTest {
 
     private WebDriver driver;
     private WebDriverWait wait;
     private WebDriverWait shortWait;
     private JavascriptExecutor js;
+    private PageActions actions;
 
     private static final String SITE_URL = "https://studyleo.com/en";
 
@@ -43,26 +44,31 @@ public class HomePageTest {
     private String screenshotFolder;
 
     // Locators
-    private By acceptCookiesButton = By.cssSelector("button[data-testid='cookie-banner-accept-button']");
-    private By applyNowButton = By.cssSelector("button[data-slot='button'][aria-label='Apply Now']");
-    private By closeDialogButton = By.cssSelector("button[data-slot='dialog-close']");
-    private By searchBox = By.cssSelector("input[data-slot='input'][placeholder='Search']");
-    private By searchButton = By.cssSelector("button[data-slot='button'][type='submit']");
-    private By whatsappButton = By.cssSelector("button.bg-\\[\\#019875\\]");
-    private By telegramButton = By.id("SVGRepo_iconCarrier");
-    private By applyNowTimer = By.xpath("/html/body/main/div/div[2]//button[contains(@class, 'pushable')]");
-    private By universitiesLink = By.cssSelector("a[data-slot='navigation-menu-link'][href='/en/universities']");
-    private By programsLink = By.cssSelector("a[data-slot='navigation-menu-link'][href='/en/programs']");
-    private By blogsLink = By.cssSelector("a[data-slot='navigation-menu-link'][href='/en/blogs']");
-    private By visaSupportLink = By.cssSelector("a[data-slot='navigation-menu-link'][href='/en/study-visa-support-in-turkey']");
-    private By aboutLink = By.cssSelector("a[data-slot='navigation-menu-link'][href='/en/about']");
-    private By contactLink = By.cssSelector("a[data-slot='navigation-menu-link'][href='/en/contact']");
-    private By educationLink = By.xpath("//button[@data-slot='navigation-menu-trigger' and contains(., 'Education')]");
-    private By StudyInTurkey = By.cssSelector("a[data-slot='navigation-menu-link'][href='/en/study-in-turkey']");
+    private By acceptCookiesButton = LocatorRegistry.COOKIE_ACCEPT;
+    private By applyNowButton = LocatorRegistry.HOME_APPLY_NOW;
+    private By closeDialogButton = LocatorRegistry.HOME_CLOSE_DIALOG;
+    private By searchBox = LocatorRegistry.HOME_SEARCH_BOX;
+    private By searchButton = LocatorRegistry.HOME_SEARCH_BUTTON;
+    private By whatsappButton = LocatorRegistry.HOME_WHATSAPP;
+    private By telegramButton = LocatorRegistry.HOME_TELEGRAM;
+    private By applyNowTimer = LocatorRegistry.HOME_APPLY_NOW_TIMER;
+    private By universitiesLink = LocatorRegistry.NAV_UNIVERSITIES;
+    private By programsLink = LocatorRegistry.NAV_PROGRAMS;
+    private By blogsLink = LocatorRegistry.NAV_BLOGS;
+    private By visaSupportLink = LocatorRegistry.NAV_VISA_SUPPORT;
+    private By aboutLink = LocatorRegistry.NAV_ABOUT;
+    private By contactLink = LocatorRegistry.NAV_CONTACT;
+    private By educationLink = LocatorRegistry.NAV_EDUCATION_TRIGGER;
+    private By StudyInTurkey = LocatorRegistry.NAV_STUDY_IN_TURKEY;
     // Test statistics
     private int totalTests = 0;
     private int passedTests = 0;
     private int failedTests = 0;
+    private final CaseRunner cases = new CaseRunner(this, (total, passed, failed) -> {
+        totalTests += total;
+        passedTests += passed;
+        failedTests += failed;
+    }, this::log, this::logError, this::recycleDriver);
     private int screenshotCount = 0;
 
     private boolean sharedDriver = false;
@@ -77,12 +83,13 @@ public class HomePageTest {
         this.sharedDriver = sharedDriver;
         if (driver != null && sharedDriver) {
             this.driver = driver;
-            this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-            this.shortWait = new WebDriverWait(driver, Duration.ofSeconds(5));
+            this.wait = new AdaptiveWait(driver, Duration.ofSeconds(10));
+            this.shortWait = new AdaptiveWait(driver, Duration.ofSeconds(5));
             this.js = (JavascriptExecutor) driver;
         } else {
             initializeDriver();
         }
+        this.actions = new PageActions(this.driver);
         initializeLog();
     }
 
@@ -95,11 +102,12 @@ public class HomePageTest {
         options.addArguments("--disable-blink-features=AutomationControlled");
 
         driver = new ChromeDriver(options);
+        ResourceTracker.driverOpened(driver);
         driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(10));
-        driver.manage().timeouts().implicitlyWait(Duration.ofMillis(500));
+        driver.manage().timeouts().implicitlyWait(LocatorRegistry.implicitWait());
 
-        wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        shortWait = new WebDriverWait(driver, Duration.ofSeconds(5));
+        wait = new AdaptiveWait(driver, Duration.ofSeconds(10));
+        shortWait = new AdaptiveWait(driver, Duration.ofSeconds(5));
         js = (JavascriptExecutor) driver;
     }
 
@@ -147,6 +155,7 @@ public class HomePageTest {
     }
 
     private void logError(String message) {
+        cases.observe(message);
         String errorMsg = "❌ " + message;
         System.err.println(errorMsg);
         logMessages.add(errorMsg);
@@ -155,13 +164,14 @@ public class HomePageTest {
     private String takeScreenshot(String fileName) {
         try {
             TakesScreenshot screenshot = (TakesScreenshot) driver;
-            File sourceFile = screenshot.getScreenshotAs(OutputType.FILE);
+            // BYTES instead of FILE: no Selenium temp file left behind
+            byte[] png = screenshot.getScreenshotAs(OutputType.BYTES);
 
             String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("HHmmss"));
             String screenshotName = fileName + "_" + timestamp + ".png";
             String destinationPath = screenshotFolder + "/" + screenshotName;
 
-            Files.copy(sourceFile.toPath(), Paths.get(destinationPath), StandardCopyOption.REPLACE_EXISTING);
+            Files.write(Paths.get(destinationPath), png);
 
             screenshotCount++;
             log("📸 Screenshot saved: " + destinationPath);
@@ -174,9 +184,21 @@ public class HomePageTest {
         }
     }
 
+    /**
+     * VirtualClock hands the page clock back after every advance, so shared tabs work too
+     */
+    private boolean useVirtualTime() {
+        return VirtualClock.isEnabled() && CdpSupport.isAvailable(driver);
+    }
+
     private void sleep(int milliseconds) {
+        // Virtual time rejimində real gözləmə əvəzinə səhifə saatı irəli çəkilir
+        if (useVirtualTime()) {
+            VirtualClock.advance(driver, milliseconds);
+            return;
+        }
         try {
-            Thread.sleep(milliseconds);
+            Thread.sleep(TimeBudget.clampMillis(milliseconds));
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
@@ -194,12 +216,7 @@ public class HomePageTest {
     }
 
     private boolean isElementPresent(By locator) {
-        try {
-            shortWait.until(ExpectedConditions.presenceOfElementLocated(locator));
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return LocatorRegistry.isPresent(driver, locator);
     }
 
     // Yeni util: Səhifənin tam yüklənməsini gözlə
@@ -222,6 +239,7 @@ public class HomePageTest {
                 WebElement cookieBtn = driver.findElement(acceptCookiesButton);
                 js.executeScript("arguments[0].click();", cookieBtn);
                 sleep(1500);
+                SessionState.capture(driver);
                 log("✅ PASS - Cookies accepted");
                 passedTests++;
             } else {
@@ -245,9 +263,7 @@ public class HomePageTest {
             if (isElementPresent(applyNowButton)) {
                 log("   ℹ️ Apply Now button found");
                 WebElement btn = wait.until(ExpectedConditions.presenceOfElementLocated(applyNowButton));
-                js.executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", btn);
-                sleep(300);
-                js.executeScript("arguments[0].click();", btn);
+                actions.click(btn);
                 sleep(1500);
                 log("✅ PASS - Apply Now button clicked, dialog opened");
                 passedTests++;
@@ -298,10 +314,7 @@ public class HomePageTest {
             if (isElementPresent(searchBox)) {
                 log("   ℹ️ Search box found");
                 WebElement input = wait.until(ExpectedConditions.presenceOfElementLocated(searchBox));
-                js.executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", input);
-                sleep(300);
-                input.clear();
-                input.sendKeys("medicine");
+                actions.type(input, "medicine");
                 sleep(500);
                 log("   ✓ Typed: \"medicine\"");
                 log("✅ PASS - Search box working");
@@ -421,13 +434,18 @@ public class HomePageTest {
             if (isElementPresent(applyNowTimer)) {
                 log("   ℹ️ Timer button found");
                 WebElement timerBtn = wait.until(ExpectedConditions.presenceOfElementLocated(applyNowTimer));
-                js.executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", timerBtn);
-                sleep(300);
+                actions.reveal(timerBtn);
 
                 String timerText = timerBtn.getText();
                 log("   ℹ️ Timer text: " + timerText);
 
-                js.executeScript("arguments[0].click();", timerBtn);
+                if (useVirtualTime() && !checkTimerCountdown(timerBtn, timerText)) {
+                    failedTests++;
+                    takeScreenshot("TIMER_COUNTDOWN_FAILED");
+                    return;
+                }
+
+                actions.click(timerBtn);
                 sleep(1500);
                 log("✅ PASS - Timer button clicked, dialog opened");
                 passedTests++;
@@ -443,6 +461,34 @@ public class HomePageTest {
         }
     }
 
+    /**
+     * Virtual time ilə 2 dəqiqə irəli çəkir və geri sayımın ~120 saniyə azaldığını yoxlayır
+     */
+    private boolean checkTimerCountdown(WebElement timerBtn, String before) {
+        long beforeSeconds = VirtualClock.parseCountdownSeconds(before);
+        long realMillis = VirtualClock.advance(driver, 120_000);
+        String after = timerBtn.getText();
+        long afterSeconds = VirtualClock.parseCountdownSeconds(after);
+        log("   ⏩ +2 min virtual time (" + realMillis + " ms real): " + after);
+
+        if (beforeSeconds < 0 || afterSeconds < 0) {
+            if (after.equals(before)) {
+                logError("FAIL - Timer text did not change after 2 virtual minutes");
+                return false;
+            }
+            return true;
+        }
+
+        long elapsed = beforeSeconds - afterSeconds;
+        // Countdown may reach zero inside the two minutes
+        if (afterSeconds > 0 && Math.abs(elapsed - 120) > 2) {
+            logError("FAIL - Countdown moved " + elapsed + " s, expected ~120 s");
+            return false;
+        }
+        log("   ✓ Countdown moved " + elapsed + " s");
+        return true;
+    }
+
     private void testNavigationLink(String linkName, By locator, String expectedPath) {
         totalTests++;
         log("\n" + "━".repeat(70));
@@ -458,9 +504,7 @@ public class HomePageTest {
             if (isElementPresent(locator)) {
                 log("   ℹ️ " + linkName + " link found");
                 WebElement link = wait.until(ExpectedConditions.presenceOfElementLocated(locator));
-                js.executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", link);
-                sleep(300);
-                js.executeScript("arguments[0].click();", link);
+                actions.click(link);
                 waitForPageLoad(); // əlavə et!
                 sleep(1500);
 
@@ -509,9 +553,7 @@ public class HomePageTest {
             if (isElementPresent(locator2)) {
                 log("   ℹ️ " + linkName + " link found");
                 WebElement link = wait.until(ExpectedConditions.presenceOfElementLocated(locator2));
-                js.executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", link);
-                sleep(300);
-                js.executeScript("arguments[0].click();", link);
+                actions.click(link);
                 waitForPageLoad(); // əlavə et!
                 sleep(1500);
 
@@ -538,29 +580,127 @@ public class HomePageTest {
         }
     }
 
+    /**
+     * Nav linklərini bir dəfə oxuyur və hamısını eyni anda ayrı tab-larda açır.
+     * Each link is still reported as its own test.
+     */
+    private void testNavigationLinksInTabs() {
+        log("\n" + "━".repeat(70));
+        log("🔗 TEST: Navigation links (parallel tabs)");
+        log("━".repeat(70));
+
+        Map<String, String> expectedLinks = new LinkedHashMap<>();
+        expectedLinks.put("Universities", "/en/universities");
+        expectedLinks.put("Programs", "/en/programs");
+        expectedLinks.put("Education", "/en/study-in-turkey");
+        expectedLinks.put("Blogs", "/en/blogs");
+        expectedLinks.put("Visa Support", "/en/study-visa-support-in-turkey");
+        expectedLinks.put("About", "/en/about");
+        expectedLinks.put("Contact", "/en/contact");
+
+        try {
+            driver.get(SITE_URL);
+            waitForPageLoad();
+
+            // Study in Turkey is rendered only after the Education menu opens
+            if (isElementPresent(educationLink)) {
+                driver.findElement(educationLink).click();
+                shortWait.until(ExpectedConditions.presenceOfElementLocated(StudyInTurkey));
+            }
+
+            @SuppressWarnings("unchecked")
+            List<String> hrefs = (List<String>) js.executeScript(
+                    "return Array.from(document.querySelectorAll(\"a[data-slot='navigation-menu-link']\"))" +
+                    ".map(function (a) { return a.href; });");
+            log("   ℹ️ Found " + hrefs.size() + " navigation links");
+
+            List<String> names = new ArrayList<>();
+            List<String> urls = new ArrayList<>();
+            for (Map.Entry<String, String> link : expectedLinks.entrySet()) {
+                String url = hrefs.stream()
+                        .filter(href -> href.endsWith(link.getValue()))
+                        .findFirst()
+                        .orElse(null);
+                if (url == null) {
+                    totalTests++;
+                    logError("FAIL - " + link.getKey() + " link not found");
+                    failedTests++;
+                    continue;
+                }
+                names.add(link.getKey());
+                urls.add(url);
+            }
+
+            List<ParallelTabs.TabResult> results = ParallelTabs.open(driver, urls, Duration.ofSeconds(10));
+
+            for (int i = 0; i < results.size(); i++) {
+                totalTests++;
+                String linkName = names.get(i);
+                String expectedPath = expectedLinks.get(linkName);
+                ParallelTabs.TabResult result = results.get(i);
+                log("   📍 " + linkName + ": " + result.finalUrl + " (" + result.readyState
+                        + ", HTTP " + (result.status == 0 ? "n/a" : result.status) + ", " + result.loadMillis + " ms)");
+
+                if (result.isLoaded() && result.finalUrl != null && result.finalUrl.contains(expectedPath)) {
+                    log("✅ PASS - " + linkName + " page opened");
+                    passedTests++;
+                } else {
+                    logError("FAIL - " + linkName + ": expected " + expectedPath);
+                    failedTests++;
+                }
+            }
+
+        } catch (Exception e) {
+            totalTests++;
+            logError("FAIL - Parallel navigation error: " + e.getMessage());
+            failedTests++;
+            takeScreenshot("PARALLEL_NAVIGATION_ERROR");
+        }
+    }
+
     // ==================== MAIN TEST FLOW ====================
 
+    /**
+     * Replace an unhealthy browser session and reopen the page under test
+     */
+    private void recycleDriver(String reason) {
+        log("♻️ Browser unhealthy (" + reason + ") - recycling session");
+        // No SessionState: the banner cases need the consent prompt on the new session too
+        driver = BrowserHealth.recycle(driver, getTestClassName(), reason, false);
+        wait = new AdaptiveWait(driver, Duration.ofSeconds(10));
+        shortWait = new AdaptiveWait(driver, Duration.ofSeconds(5));
+        js = (JavascriptExecutor) driver;
+        actions = new PageActions(driver);
+        openWebsite();
+    }
+
     public void run() {
         try {
+            if (CircuitBreaker.isOpen()) {
+                logError("SKIPPED " + getTestClassName() + " - " + CircuitBreaker.getReason());
+                return;
+            }
+
             openWebsite();
 
-            testAcceptCookies();
-            testApplyNowButton();
-            testCloseDialog();
-            testSearchBox();
-            testSearchButton();
-            testWhatsAppButton();
-            testTelegramButton();
-            testApplyNowTimer();
-            testCloseDialog();
-
-            testNavigationLink("Universities", universitiesLink, "/en/universities");
-            testNavigationLink("Programs", programsLink, "/en/programs");
-            testNavigationLinkForBanner("Education",educationLink,"/en/study-in-turkey",StudyInTurkey);
-            testNavigationLink("Blogs", blogsLink, "/en/blogs");
-            testNavigationLink("Visa Support", visaSupportLink, "/en/study-visa-support-in-turkey");
-            testNavigationLink("About", aboutLink, "/en/about");
-            testNavigationLink("Contact", contactLink, "/en/contact");
+            cases.runSetup("testAcceptCookies", this::testAcceptCookies);
+            cases.runChain("testApplyNowButton", this::testApplyNowButton, "testCloseDialog", this::testCloseDialog);
+            cases.runChain("testSearchBox", this::testSearchBox, "testSearchButton", this::testSearchButton);
+            cases.run("testWhatsAppButton", this::testWhatsAppButton);
+            cases.run("testTelegramButton", this::testTelegramButton);
+            cases.runChain("testApplyNowTimer", this::testApplyNowTimer, "testCloseDialog (after timer)", this::testCloseDialog);
+
+            if (SuiteConfig.flag("parallelNav")) {
+                cases.run("testNavigationLinksInTabs", this::testNavigationLinksInTabs);
+            } else {
+                cases.run("testNavigationLink (Universities)", () -> testNavigationLink("Universities", universitiesLink, "/en/universities"));
+                cases.run("testNavigationLink (Programs)", () -> testNavigationLink("Programs", programsLink, "/en/programs"));
+                cases.run("testNavigationLinkForBanner (Education)", () -> testNavigationLinkForBanner("Education",educationLink,"/en/study-in-turkey",StudyInTurkey));
+                cases.run("testNavigationLink (Blogs)", () -> testNavigationLink("Blogs", blogsLink, "/en/blogs"));
+                cases.run("testNavigationLink (Visa Support)", () -> testNavigationLink("Visa Support", visaSupportLink, "/en/study-visa-support-in-turkey"));
+                cases.run("testNavigationLink (About)", () -> testNavigationLink("About", aboutLink, "/en/about"));
+                cases.run("testNavigationLink (Contact)", () -> testNavigationLink("Contact", contactLink, "/en/contact"));
+            }
             printSummary();
 
         } catch (Exception e) {
@@ -577,6 +717,7 @@ public class HomePageTest {
         log("   Total Tests: " + totalTests);
         log("   ✅ Passed: " + passedTests);
         log("   ❌ Failed: " + failedTests);
+        log("   ⏭️ Skipped: " + cases.getSkipped());
 
         double successRate = totalTests > 0
                 ? (passedTests * 100.0 / totalTests)
@@ -599,13 +740,18 @@ public class HomePageTest {
         if (!sharedDriver && driver != null) {
             log("\n\uD83D\uDD1A Closing browser...");
             driver.quit();
+            ResourceTracker.driverClosed(driver);
         }
+        // Log file is already written - drop the in-memory copy
+        logMessages.clear();
     }
 
     public int getTotalTests() { return totalTests; }
     public int getPassedTests() { return passedTests; }
     public int getFailedTests() { return failedTests; }
+    public int getSkippedTests() { return cases.getSkipped(); }
     public String getTestClassName() { return this.getClass().getSimpleName(); }
+    public WebDriver getDriver() { return driver; }
 
     public static void main(String[] args) {
         HomePageTest test = new HomePageTest();
@@ -0,0 +1,259 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Link checker for blog, country, university and program detail pages.
+ * Detail URLs are collected from the listing pages (PaginationWalker; programs from
+ * the catalogue mirror when one exists), deduplicated, and fetched with HttpClient
+ * on virtual threads - one thread per URL, at most -Dstudyleo.linkHostLimit requests
+ * per host at a time (default 16). Every page must answer 200 after at most a few
+ * redirects, within -Dstudyleo.linkSlowMillis (default 3000), with an <h1> and
+ * without a "not found" title.
+ */
+public final class LinkChecker {
+
+    private static final int MAX_REDIRECTS = 5;
+    private static final Pattern TITLE = Pattern.compile("(?is)<title[^>]*>(.*?)</title>");
+
+    private static final HttpClient HTTP = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .build();
+
+    private static final Map<String, Semaphore> HOST_SLOTS = new ConcurrentHashMap<>();
+
+    private LinkChecker() {
+    }
+
+    public static void run() {
+        long startTime = System.currentTimeMillis();
+        Map<String, String> sources = collectUrls();
+        System.out.println("🔗 " + sources.size() + " unique detail URLs collected in "
+                + (System.currentTimeMillis() - startTime) / 1000 + " s");
+
+        long checkStart = System.currentTimeMillis();
+        List<Check> checks = Collections.synchronizedList(new ArrayList<>());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Map.Entry<String, String> entry : sources.entrySet()) {
+                futures.add(executor.submit(() -> checks.add(check(entry.getKey(), entry.getValue()))));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (Exception e) {
+                    System.err.println("❌ Link check failed: " + e.getMessage());
+                }
+            }
+        }
+        printReport(checks, (System.currentTimeMillis() - checkStart) / 1000.0);
+    }
+
+    /**
+     * Detail URL -> source list name, first occurrence wins
+     */
+    private static Map<String, String> collectUrls() {
+        List<PaginationWalker.Target> targets = new ArrayList<>(PaginationWalker.TARGETS);
+        targets.add(new PaginationWalker.Target("Universities", "/universities", "/universities/", null, null));
+
+        Map<String, String> sources = new LinkedHashMap<>();
+        CatalogueMirror mirror = CatalogueMirror.load();
+        if (mirror != null) {
+            for (int row = 0; row < mirror.rows(); row++) {
+                sources.putIfAbsent(normalize(mirror.href(row)), "Programs");
+            }
+        } else {
+            targets.add(new PaginationWalker.Target("Programs", "/programs", "/programs/", null, null));
+        }
+
+        BrowserContextPool pool = BrowserContextPool.launch(targets.size());
+        ExecutorService executor = Executors.newFixedThreadPool(targets.size());
+        try {
+            List<Future<PaginationWalker.Walk>> walks = new ArrayList<>();
+            for (PaginationWalker.Target target : targets) {
+                walks.add(executor.submit(() -> {
+                    BrowserContextPool.Lease lease = pool.acquire("links-" + target.name);
+                    try {
+                        return PaginationWalker.walk(lease.getDriver(), target);
+                    } finally {
+                        pool.release(lease);
+                    }
+                }));
+            }
+            for (Future<PaginationWalker.Walk> future : walks) {
+                try {
+                    PaginationWalker.Walk walk = future.get();
+                    if (walk.error != null) {
+                        System.err.println("⚠️ " + walk.target.name + " listing: " + walk.error);
+                    }
+                    for (String href : walk.hrefs()) {
+                        sources.putIfAbsent(normalize(href), walk.target.name);
+                    }
+                } catch (Exception e) {
+                    System.err.println("❌ Listing walk failed: " + e.getMessage());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+            pool.close();
+        }
+        return sources;
+    }
+
+    private static Check check(String url, String source) {
+        Check result = new Check(url, source);
+        URI uri = URI.create(url);
+        Semaphore slots = hostSlot(uri.getHost());
+        long start = 0;
+        try {
+            slots.acquire();
+            // Response time starts when the request may go out, not while queued for the host
+            start = System.currentTimeMillis();
+            try {
+                HttpResponse<String> response = null;
+                for (int hop = 0; hop <= MAX_REDIRECTS; hop++) {
+                    response = HTTP.send(HttpRequest.newBuilder(uri)
+                            .timeout(Duration.ofSeconds(15))
+                            .header("User-Agent", "Mozilla/5.0 StudyLeoAutomation link checker")
+                            .GET()
+                            .build(), HttpResponse.BodyHandlers.ofString());
+                    int status = response.statusCode();
+                    String location = response.headers().firstValue("Location").orElse(null);
+                    if (status < 300 || status >= 400 || location == null) {
+                        break;
+                    }
+                    uri = uri.resolve(location);
+                    result.redirects.add(status + " → " + uri);
+                }
+                result.status = response.statusCode();
+                result.markerFound = hasMarker(response.body());
+            } finally {
+                slots.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.error = "interrupted";
+        } catch (Exception e) {
+            result.error = e.getClass().getSimpleName() + (e.getMessage() == null ? "" : ": " + e.getMessage());
+        }
+        result.millis = start == 0 ? 0 : System.currentTimeMillis() - start;
+        return result;
+    }
+
+    /**
+     * Concurrent request limit per host, shared with DetailTemplateCheck
+     */
+    static Semaphore hostSlot(String host) {
+        return HOST_SLOTS.computeIfAbsent(host,
+                key -> new Semaphore(Math.max(1, SuiteConfig.intValue("linkHostLimit", 16))));
+    }
+
+    /**
+     * A real detail page has a heading; soft 404s answer 200 with a "not found" title
+     */
+    private static boolean hasMarker(String body) {
+        if (body == null || !body.toLowerCase().contains("<h1")) {
+            return false;
+        }
+        Matcher title = TITLE.matcher(body);
+        return !title.find() || !title.group(1).toLowerCase().contains("not found");
+    }
+
+    private static String normalize(String href) {
+        String url = href.split("#")[0];
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    private static void printReport(List<Check> checks, double seconds) {
+        long slowMillis = SuiteConfig.intValue("linkSlowMillis", 3000);
+        List<Check> broken = new ArrayList<>();
+        List<Check> noMarker = new ArrayList<>();
+        List<Check> redirected = new ArrayList<>();
+        List<Check> slow = new ArrayList<>();
+        List<Long> times = new ArrayList<>();
+        Map<String, int[]> bySource = new LinkedHashMap<>();
+        synchronized (checks) {
+            for (Check c : checks) {
+                times.add(c.millis);
+                int[] counts = bySource.computeIfAbsent(c.source, key -> new int[2]);
+                counts[0]++;
+                if (c.error != null || c.status != 200) {
+                    broken.add(c);
+                    continue;
+                }
+                counts[1]++;
+                if (!c.markerFound) {
+                    noMarker.add(c);
+                }
+                if (!c.redirects.isEmpty()) {
+                    redirected.add(c);
+                }
+                if (c.millis > slowMillis) {
+                    slow.add(c);
+                }
+            }
+        }
+        Collections.sort(times);
+
+        System.out.println("\n================== LINK CHECK ==================");
+        for (Map.Entry<String, int[]> entry : bySource.entrySet()) {
+            System.out.printf("%-14s %5d links | %5d OK\n", entry.getKey(), entry.getValue()[0], entry.getValue()[1]);
+        }
+        System.out.println("Broken:     " + broken.size());
+        for (Check c : first(broken)) {
+            System.out.println("   ❌ " + (c.error != null ? c.error : "HTTP " + c.status) + " " + c.url);
+        }
+        System.out.println("No content: " + noMarker.size());
+        for (Check c : first(noMarker)) {
+            System.out.println("   ⚠️ no <h1> or \"not found\" title: " + c.url);
+        }
+        System.out.println("Redirected: " + redirected.size());
+        for (Check c : first(redirected)) {
+            System.out.println("   ↪️ " + c.url + " " + String.join(" ", c.redirects));
+        }
+        System.out.println("Slow (> " + slowMillis + " ms): " + slow.size());
+        for (Check c : first(slow)) {
+            System.out.println("   🐢 " + c.millis + " ms " + c.url);
+        }
+        if (!times.isEmpty()) {
+            System.out.println("Response p50: " + times.get(times.size() / 2) + " ms | p95: "
+                    + times.get(Math.min(times.size() - 1, (int) (times.size() * 0.95))) + " ms");
+        }
+        System.out.printf("Checked %d links in %.1f s\n", checks.size(), seconds);
+        System.out.println("================================================");
+    }
+
+    private static List<Check> first(List<Check> checks) {
+        return checks.subList(0, Math.min(10, checks.size()));
+    }
+
+    private static final class Check {
+        final String url;
+        final String source;
+        final List<String> redirects = new ArrayList<>();
+        int status;
+        boolean markerFound;
+        long millis;
+        String error;
+
+        Check(String url, String source) {
+            this.url = url;
+            this.source = source;
+        }
+    }
+}
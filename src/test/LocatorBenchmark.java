@@ -0,0 +1,215 @@
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Times every registered locator on the page it belongs to.
+ * Each strategy (primary and candidates) runs N times inside the browser with
+ * performance.now(), so the numbers are query cost without WebDriver round trips.
+ * A candidate is promoted when it returns exactly the primary's elements
+ * and is at least PROMOTE_RATIO faster.
+ */
+public final class LocatorBenchmark {
+
+    private static final double PROMOTE_RATIO = 0.8;
+
+    /**
+     * Locator name prefix → page path. shared/nav locators are timed on every page.
+     */
+    private static final Map<String, String> PAGES = new LinkedHashMap<>();
+
+    static {
+        PAGES.put("home.", "");
+        PAGES.put("universities.", "/universities");
+        PAGES.put("programs.", "/programs");
+        PAGES.put("blogs.", "/blogs");
+        PAGES.put("visa.", "/study-visa-support-in-turkey");
+    }
+
+    private static final String TIME_SCRIPT =
+            "var kind = arguments[0], expr = arguments[1], n = arguments[2];" +
+            "function q() {" +
+            "  if (kind === 'id') { var e = document.getElementById(expr); return e ? [e] : []; }" +
+            "  if (kind === 'css') { return Array.from(document.querySelectorAll(expr)); }" +
+            "  var r = document.evaluate(expr, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null), out = [];" +
+            "  for (var i = 0; i < r.snapshotLength; i++) { out.push(r.snapshotItem(i)); }" +
+            "  return out;" +
+            "}" +
+            "var found = q(), t0 = performance.now();" +
+            "for (var k = 0; k < n; k++) { q(); }" +
+            "var micros = (performance.now() - t0) * 1000 / n;" +
+            "window.__studyleoBench = window.__studyleoBench || {};" +
+            "window.__studyleoBench[arguments[3]] = found;" +
+            "return { micros: micros, count: found.length };";
+
+    private static final String SAME_SCRIPT =
+            "var a = window.__studyleoBench[arguments[0]], b = window.__studyleoBench[arguments[1]];" +
+            "return a.length === b.length && a.every(function (el, i) { return el === b[i]; });";
+
+    private LocatorBenchmark() {
+    }
+
+    /**
+     * Run the benchmark on every page, print the report and save promotions.
+     * Iterations: -Dstudyleo.benchIterations (default 200)
+     */
+    public static void run(WebDriver driver) {
+        int iterations = SuiteConfig.intValue("benchIterations", 200);
+        List<Sample> samples = new ArrayList<>();
+
+        for (Map.Entry<String, String> page : PAGES.entrySet()) {
+            System.out.println("📄 " + SiteBootstrap.SITE_URL + page.getValue());
+            SiteBootstrap.openDirect(driver, page.getValue());
+            for (LocatorRegistry.Locator locator : LocatorRegistry.all().values()) {
+                String name = locator.getName();
+                boolean shared = name.startsWith("shared.") || name.startsWith("nav.");
+                if (name.startsWith(page.getKey()) || shared) {
+                    samples.addAll(measure(driver, locator, iterations));
+                }
+            }
+        }
+
+        printReport(samples, iterations);
+        promote(samples);
+        LocatorRegistry.savePromotions();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Sample> measure(WebDriver driver, LocatorRegistry.Locator locator, int iterations) {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        List<By> strategies = new ArrayList<>();
+        strategies.add(locator.getPrimary());
+        strategies.addAll(locator.getCandidates());
+
+        List<Sample> result = new ArrayList<>();
+        for (int i = 0; i < strategies.size(); i++) {
+            By by = strategies.get(i);
+            Sample sample = new Sample(locator, by, i == 0);
+            String[] parsed = parse(by);
+            if (parsed == null) {
+                continue;
+            }
+            try {
+                Map<String, Object> timing = (Map<String, Object>) js.executeScript(
+                        TIME_SCRIPT, parsed[0], parsed[1], iterations, String.valueOf(i));
+                sample.micros = ((Number) timing.get("micros")).doubleValue();
+                sample.count = ((Number) timing.get("count")).longValue();
+                sample.sameAsPrimary = i == 0 || Boolean.TRUE.equals(js.executeScript(SAME_SCRIPT, "0", String.valueOf(i)));
+            } catch (Exception e) {
+                System.err.println("⚠️ " + by + " could not be timed: " + e.getMessage());
+                continue;
+            }
+            result.add(sample);
+        }
+        return result;
+    }
+
+    /**
+     * Only strategies the browser can run directly are timed: id, css, xpath
+     */
+    private static String[] parse(By by) {
+        String text = by.toString();
+        if (text.startsWith("By.id: ")) {
+            return new String[]{"id", text.substring("By.id: ".length())};
+        }
+        if (text.startsWith("By.cssSelector: ")) {
+            return new String[]{"css", text.substring("By.cssSelector: ".length())};
+        }
+        if (text.startsWith("By.xpath: ")) {
+            return new String[]{"xpath", text.substring("By.xpath: ".length())};
+        }
+        return null;
+    }
+
+    private static String strategyOf(By by) {
+        String[] parsed = parse(by);
+        if (parsed == null) {
+            return "other";
+        }
+        if ("xpath".equals(parsed[0])) {
+            return parsed[1].startsWith("/html") ? "xpath (absolute)" : "xpath";
+        }
+        return parsed[0];
+    }
+
+    /**
+     * Promote the fastest equivalent candidate of each locator. A candidate must
+     * match the primary on every page where the primary found something.
+     */
+    private static void promote(List<Sample> samples) {
+        for (LocatorRegistry.Locator locator : LocatorRegistry.all().values()) {
+            By best = null;
+            double bestRatio = PROMOTE_RATIO;
+            for (By candidate : locator.getCandidates()) {
+                double primaryMicros = 0, candidateMicros = 0;
+                boolean verified = false, equivalent = true;
+                for (Sample s : samples) {
+                    if (s.locator != locator) {
+                        continue;
+                    }
+                    if (s.primary) {
+                        primaryMicros += s.micros;
+                    } else if (s.by.equals(candidate)) {
+                        candidateMicros += s.micros;
+                        equivalent &= s.sameAsPrimary;
+                        verified |= s.sameAsPrimary && s.count > 0;
+                    }
+                }
+                if (verified && equivalent && primaryMicros > 0 && candidateMicros / primaryMicros < bestRatio) {
+                    best = candidate;
+                    bestRatio = candidateMicros / primaryMicros;
+                }
+            }
+            locator.promote(best);
+            if (best != null) {
+                System.out.printf("⬆️ %s → %s (%.0f%% of primary cost)\n", locator.getName(), best, bestRatio * 100);
+            }
+        }
+    }
+
+    private static void printReport(List<Sample> samples, int iterations) {
+        System.out.println("\n================== LOCATOR BENCHMARK ==================");
+        System.out.println("Iterations per strategy: " + iterations);
+        System.out.printf("%-30s %-18s %10s %6s %5s\n", "Locator", "Strategy", "µs/query", "Found", "Same");
+        for (Sample s : samples) {
+            System.out.printf("%-30s %-18s %10.1f %6d %5s\n",
+                    s.locator.getName() + (s.primary ? "" : " *"), strategyOf(s.by), s.micros, s.count,
+                    s.primary ? "-" : (s.sameAsPrimary ? "yes" : "NO"));
+        }
+
+        Map<String, double[]> perStrategy = new LinkedHashMap<>();
+        for (Sample s : samples) {
+            double[] sum = perStrategy.computeIfAbsent(strategyOf(s.by), k -> new double[2]);
+            sum[0] += s.micros;
+            sum[1]++;
+        }
+        System.out.println("-------------------------------------------------------");
+        System.out.printf("%-20s %10s %8s\n", "Strategy", "avg µs", "Queries");
+        for (Map.Entry<String, double[]> entry : perStrategy.entrySet()) {
+            System.out.printf("%-20s %10.1f %8d\n",
+                    entry.getKey(), entry.getValue()[0] / entry.getValue()[1], (long) entry.getValue()[1]);
+        }
+        System.out.println("(* = candidate strategy)");
+        System.out.println("=======================================================");
+    }
+
+    private static final class Sample {
+        final LocatorRegistry.Locator locator;
+        final By by;
+        final boolean primary;
+        double micros;
+        long count;
+        boolean sameAsPrimary;
+
+        Sample(LocatorRegistry.Locator locator, By by, boolean primary) {
+            this.locator = locator;
+            this.by = by;
+            this.primary = primary;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Self-healing for registered locators (-Dstudyleo.selfHeal=true).
+ * After the first successful lookup of a locator on a page, a fingerprint of the
+ * element (tag, id, classes, key attributes, text shape, DOM path) is stored in
+ * logs/locator-fingerprints.json. When the locator's wait later times out on that
+ * page, one script scores every element with the same tag against the fingerprint
+ * and returns the best match, so a renamed class fails one wait instead of the test.
+ * The healed element's CSS path is cached for the next lookups.
+ */
+public final class LocatorHealer {
+
+    private static final Path FINGERPRINT_FILE = Paths.get("logs", "locator-fingerprints.json");
+    private static final Json JSON = new Json();
+    private static final double MIN_SCORE = 0.6;
+
+    private static final String FINGERPRINT_SCRIPT =
+            "var el = arguments[0], keys = ['name', 'type', 'role', 'href', 'placeholder', 'aria-label'," +
+            " 'aria-labelledby', 'data-slot', 'data-testid'], attrs = {};" +
+            "keys.forEach(function (k) { if (el.hasAttribute(k)) attrs[k] = el.getAttribute(k); });" +
+            "var path = [];" +
+            "for (var n = el; n && n !== document.body; n = n.parentElement) {" +
+            "  var i = 1; for (var s = n.previousElementSibling; s; s = s.previousElementSibling) { if (s.tagName === n.tagName) i++; }" +
+            "  path.unshift(n.tagName.toLowerCase() + ':' + i);" +
+            "}" +
+            "return { page: location.pathname, tag: el.tagName.toLowerCase(), id: el.id || ''," +
+            " classes: Array.from(el.classList), attrs: attrs, path: path," +
+            " text: (el.textContent || '').trim().slice(0, 80).replace(/\\d+/g, '#') };";
+
+    private static final String HEAL_SCRIPT =
+            "var fp = arguments[0], requireText = arguments[1], best = null, bestScore = 0;" +
+            "function pathOf(el) {" +
+            "  var p = [];" +
+            "  for (var n = el; n && n !== document.body; n = n.parentElement) {" +
+            "    var i = 1; for (var s = n.previousElementSibling; s; s = s.previousElementSibling) { if (s.tagName === n.tagName) i++; }" +
+            "    p.unshift(n.tagName.toLowerCase() + ':' + i);" +
+            "  }" +
+            "  return p;" +
+            "}" +
+            "var keys = Object.keys(fp.attrs);" +
+            "var max = (fp.id ? 3 : 0) + 2 * keys.length + (fp.classes.length ? 3 : 0) + (fp.text ? 3 : 0) + 2;" +
+            "if (requireText && !fp.text) return null;" +
+            "Array.from(document.getElementsByTagName(fp.tag)).forEach(function (el) {" +
+            "  var score = 0;" +
+            "  if (fp.id && el.id === fp.id) score += 3;" +
+            "  keys.forEach(function (k) { if (el.getAttribute(k) === fp.attrs[k]) score += 2; });" +
+            "  var cls = Array.from(el.classList), union = new Set(cls.concat(fp.classes)), common = 0;" +
+            "  cls.forEach(function (c) { if (fp.classes.indexOf(c) >= 0) common++; });" +
+            "  if (union.size) score += 3 * common / union.size;" +
+            "  var text = (el.textContent || '').trim().slice(0, 80).replace(/\\d+/g, '#');" +
+            "  if (fp.text && text === fp.text) score += 3; else if (requireText) return;" +
+            "  var p = pathOf(el), same = 0;" +
+            "  while (same < p.length && same < fp.path.length && p[p.length - 1 - same] === fp.path[fp.path.length - 1 - same]) same++;" +
+            "  if (fp.path.length) score += 2 * same / fp.path.length;" +
+            "  if (score > bestScore) { best = el; bestScore = score; }" +
+            "});" +
+            "if (!best) return null;" +
+            "var css = 'body > ' + pathOf(best).map(function (s) {" +
+            "  var part = s.split(':'); return part[0] + ':nth-of-type(' + part[1] + ')'; }).join(' > ');" +
+            "return { element: best, score: bestScore / max, css: css };";
+
+    private static final Map<String, Map<String, Object>> FINGERPRINTS = new ConcurrentHashMap<>();
+    private static final Set<String> RECORDED_THIS_RUN = ConcurrentHashMap.newKeySet();
+    private static final Map<String, By> HEALED = new ConcurrentHashMap<>();
+    private static final Map<String, String> REPORT = new ConcurrentHashMap<>();
+
+    static {
+        load();
+    }
+
+    private LocatorHealer() {
+    }
+
+    public static boolean isEnabled() {
+        return SuiteConfig.flag("selfHeal");
+    }
+
+    /**
+     * Store the element's fingerprint - once per locator, page and run, so a shared
+     * header locator gets one for every page it is used on
+     */
+    @SuppressWarnings("unchecked")
+    static void record(String name, SearchContext context, WebElement element) {
+        if (!(context instanceof JavascriptExecutor)) {
+            return;
+        }
+        JavascriptExecutor js = (JavascriptExecutor) context;
+        String key = name + "@" + currentPage(js);
+        if (!RECORDED_THIS_RUN.add(key)) {
+            return;
+        }
+        try {
+            Map<String, Object> fingerprint = (Map<String, Object>) js.executeScript(FINGERPRINT_SCRIPT, element);
+            FINGERPRINTS.put(key, fingerprint);
+            save();
+        } catch (Exception e) {
+            // Fingerprint is best effort, the lookup already succeeded
+        }
+    }
+
+    /**
+     * Find the element the primary locator missed. Empty list = nothing close enough.
+     * requireText: only accept an element with the same text shape - used for locators
+     * that may legitimately be absent, so a look-alike is not reported as present.
+     */
+    @SuppressWarnings("unchecked")
+    static List<WebElement> heal(String name, SearchContext context, boolean requireText) {
+        if (!(context instanceof JavascriptExecutor)) {
+            return new ArrayList<>();
+        }
+        JavascriptExecutor js = (JavascriptExecutor) context;
+        String key = name + "@" + currentPage(js);
+
+        List<WebElement> found = healedLookup(key, context);
+        if (!found.isEmpty()) {
+            return found;
+        }
+
+        Map<String, Object> fingerprint = FINGERPRINTS.get(key);
+        if (fingerprint == null) {
+            return new ArrayList<>();
+        }
+        try {
+            Map<String, Object> match = (Map<String, Object>) js.executeScript(HEAL_SCRIPT, fingerprint, requireText);
+            if (match == null || ((Number) match.get("score")).doubleValue() < MIN_SCORE) {
+                return new ArrayList<>();
+            }
+            String css = String.valueOf(match.get("css"));
+            HEALED.put(key, By.cssSelector(css));
+            if (REPORT.put(key, css) == null) {
+                System.err.printf("🩹 Healed %s → %s (score %.2f)\n", key, css, ((Number) match.get("score")).doubleValue());
+            }
+            List<WebElement> healed = new ArrayList<>();
+            healed.add((WebElement) match.get("element"));
+            return healed;
+        } catch (Exception e) {
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Lookup through the CSS path healed earlier on the current page - no scoring, so
+     * it is safe on every poll of a wait. Empty = never healed here (or no longer matches).
+     */
+    static List<WebElement> cached(String name, SearchContext context) {
+        if (!(context instanceof JavascriptExecutor) || !isHealed(name)) {
+            return new ArrayList<>();
+        }
+        return healedLookup(name + "@" + currentPage((JavascriptExecutor) context), context);
+    }
+
+    /**
+     * Healed CSS path of the locator on a page, null = not healed there
+     */
+    static By healedOn(String name, String page) {
+        return HEALED.get(name + "@" + page);
+    }
+
+    private static List<WebElement> healedLookup(String key, SearchContext context) {
+        By healed = HEALED.get(key);
+        if (healed == null) {
+            return new ArrayList<>();
+        }
+        List<WebElement> found = context.findElements(healed);
+        if (found.isEmpty()) {
+            HEALED.remove(key);
+        }
+        return found;
+    }
+
+    private static boolean isHealed(String name) {
+        String prefix = name + "@";
+        for (String key : HEALED.keySet()) {
+            if (key.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Healed locators of this run - each one is a selector to fix in LocatorRegistry
+     */
+    public static void printReport() {
+        if (REPORT.isEmpty()) {
+            return;
+        }
+        System.out.println("\n================== HEALED LOCATORS ==================");
+        for (Map.Entry<String, String> entry : REPORT.entrySet()) {
+            System.out.println("🩹 " + entry.getKey() + " → " + entry.getValue());
+        }
+        System.out.println("=====================================================");
+    }
+
+    private static String currentPage(JavascriptExecutor js) {
+        try {
+            return String.valueOf(js.executeScript("return location.pathname;"));
+        } catch (Exception e) {
+            return "";
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void load() {
+        if (!Files.exists(FINGERPRINT_FILE)) {
+            return;
+        }
+        try {
+            Map<String, Object> stored = JSON.toType(
+                    Files.readString(FINGERPRINT_FILE, StandardCharsets.UTF_8), Json.MAP_TYPE);
+            for (Map.Entry<String, Object> entry : stored.entrySet()) {
+                FINGERPRINTS.put(entry.getKey(), (Map<String, Object>) entry.getValue());
+            }
+        } catch (Exception e) {
+            System.err.println("⚠️ Could not read locator fingerprints: " + e.getMessage());
+        }
+    }
+
+    private static synchronized void save() {
+        try {
+            Files.createDirectories(FINGERPRINT_FILE.getParent());
+            Map<String, Object> sorted = new LinkedHashMap<>();
+            Set<String> keys = new HashSet<>(FINGERPRINTS.keySet());
+            keys.stream().sorted().forEach(key -> sorted.put(key, FINGERPRINTS.get(key)));
+            Files.writeString(FINGERPRINT_FILE, JSON.toJson(sorted), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            System.err.println("⚠️ Could not save locator fingerprints: " + e.getMessage());
+        }
+    }
+}
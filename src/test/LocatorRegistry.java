@@ -0,0 +1,429 @@
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Central locator registry.
+ * Every locator declares how it is waited for, so with -Dstudyleo.noImplicitWait=true
+ * the driver runs without an implicit wait and absence checks return immediately.
+ * A locator may list faster candidate strategies; LocatorBenchmark promotes one only
+ * after it matched exactly the same elements, and the original stays as fallback.
+ * With -Dstudyleo.selfHeal=true a locator that is still missing when its wait times out
+ * is resolved by LocatorHealer; later lookups on that page use the healed path at once.
+ */
+public final class LocatorRegistry {
+
+    public enum WaitPolicy {
+        PRESENT,     // in DOM
+        VISIBLE,     // in DOM and displayed
+        CLICKABLE,   // displayed and enabled
+        ABSENT_OK    // may legitimately be missing - single lookup, no waiting
+    }
+
+    private static final Map<String, Locator> REGISTRY = new LinkedHashMap<>();
+    private static final Path PROMOTIONS_FILE = Paths.get("logs", "locator-promotions.properties");
+
+    // ==================== SHARED ====================
+
+    public static final Locator COOKIE_ACCEPT = register("shared.cookieAccept",
+            By.cssSelector("button[data-testid='cookie-banner-accept-button']"), WaitPolicy.ABSENT_OK, 5);
+    public static final Locator NAV_UNIVERSITIES = register("nav.universities",
+            By.cssSelector("a[data-slot='navigation-menu-link'][href='/en/universities']"), WaitPolicy.PRESENT, 10);
+    public static final Locator NAV_PROGRAMS = register("nav.programs",
+            By.cssSelector("a[data-slot='navigation-menu-link'][href='/en/programs']"), WaitPolicy.PRESENT, 10);
+    public static final Locator NAV_BLOGS = register("nav.blogs",
+            By.cssSelector("a[data-slot='navigation-menu-link'][href='/en/blogs']"), WaitPolicy.PRESENT, 10);
+    public static final Locator NAV_VISA_SUPPORT = register("nav.visaSupport",
+            By.cssSelector("a[data-slot='navigation-menu-link'][href='/en/study-visa-support-in-turkey']"), WaitPolicy.PRESENT, 10);
+    public static final Locator NAV_ABOUT = register("nav.about",
+            By.cssSelector("a[data-slot='navigation-menu-link'][href='/en/about']"), WaitPolicy.PRESENT, 10);
+    public static final Locator NAV_CONTACT = register("nav.contact",
+            By.cssSelector("a[data-slot='navigation-menu-link'][href='/en/contact']"), WaitPolicy.PRESENT, 10);
+    public static final Locator NAV_EDUCATION_TRIGGER = register("nav.educationTrigger",
+            By.xpath("//button[@data-slot='navigation-menu-trigger' and contains(., 'Education')]"), WaitPolicy.CLICKABLE, 10,
+            By.xpath("//button[@data-slot='navigation-menu-trigger'][contains(text(), 'Education')]"));
+    public static final Locator NAV_STUDY_IN_TURKEY = register("nav.studyInTurkey",
+            By.cssSelector("a[data-slot='navigation-menu-link'][href='/en/study-in-turkey']"), WaitPolicy.PRESENT, 5);
+    public static final Locator DROPDOWN_OPTIONS = register("shared.dropdownOptions",
+            By.cssSelector("div[data-slot='command-item'], [role='option']"), WaitPolicy.PRESENT, 10);
+    public static final Locator PAGINATION_LINKS = register("shared.paginationLinks",
+            By.cssSelector("a[data-slot='pagination-link']"), WaitPolicy.ABSENT_OK, 0);
+    public static final Locator PAGINATION_NEXT = register("shared.paginationNext",
+            By.cssSelector("a[data-slot='pagination-link'][aria-label='Go to next page']"), WaitPolicy.PRESENT, 10);
+    public static final Locator PAGINATION_PREVIOUS = register("shared.paginationPrevious",
+            By.cssSelector("a[data-slot='pagination-link'][aria-label='Go to previous page']"), WaitPolicy.ABSENT_OK, 0);
+    public static final Locator RESET_BUTTON = register("shared.resetButton",
+            By.xpath("//button[@data-slot='button']//span[normalize-space(text())='Reset']"), WaitPolicy.PRESENT, 10,
+            By.xpath("//span[normalize-space(text())='Reset'][ancestor::button[@data-slot='button']]"));
+
+    // ==================== HOME PAGE ====================
+
+    public static final Locator HOME_APPLY_NOW = register("home.applyNow",
+            By.cssSelector("button[data-slot='button'][aria-label='Apply Now']"), WaitPolicy.PRESENT, 5);
+    public static final Locator HOME_CLOSE_DIALOG = register("home.closeDialog",
+            By.cssSelector("button[data-slot='dialog-close']"), WaitPolicy.PRESENT, 5);
+    public static final Locator HOME_SEARCH_BOX = register("home.searchBox",
+            By.cssSelector("input[data-slot='input'][placeholder='Search']"), WaitPolicy.PRESENT, 5);
+    public static final Locator HOME_SEARCH_BUTTON = register("home.searchButton",
+            By.cssSelector("button[data-slot='button'][type='submit']"), WaitPolicy.PRESENT, 5);
+    public static final Locator HOME_WHATSAPP = register("home.whatsapp",
+            By.cssSelector("button.bg-\\[\\#019875\\]"), WaitPolicy.PRESENT, 5);
+    public static final Locator HOME_TELEGRAM = register("home.telegram",
+            By.id("SVGRepo_iconCarrier"), WaitPolicy.PRESENT, 5);
+    public static final Locator HOME_APPLY_NOW_TIMER = register("home.applyNowTimer",
+            By.xpath("/html/body/main/div/div[2]//button[contains(@class, 'pushable')]"), WaitPolicy.PRESENT, 5,
+            By.cssSelector("body > main > div > div:nth-of-type(2) button[class*='pushable']"),
+            By.cssSelector("main button.pushable"));
+
+    // ==================== UNIVERSITIES ====================
+
+    public static final Locator UNIVERSITIES_RESULT_COUNTER = register("universities.resultCounter",
+            By.cssSelector("span[aria-live='polite']"), WaitPolicy.VISIBLE, 10);
+    public static final Locator UNIVERSITIES_SEARCH_BOX = register("universities.searchBox",
+            By.cssSelector("input[data-slot='input'][aria-label='Search Universities']"), WaitPolicy.PRESENT, 10);
+    public static final Locator UNIVERSITIES_HAS_QS_RANKING = register("universities.hasQsRanking",
+            By.id("has-scholarships"), WaitPolicy.CLICKABLE, 10);
+    public static final Locator UNIVERSITIES_HAS_DORMITORY = register("universities.hasDormitory",
+            By.id("has-dormitory"), WaitPolicy.CLICKABLE, 10);
+    public static final Locator UNIVERSITIES_CAN_APPLY = register("universities.canApply",
+            By.id("can-apply"), WaitPolicy.CLICKABLE, 10);
+    public static final Locator UNIVERSITIES_CITIES = register("universities.cities",
+            By.id("cities"), WaitPolicy.CLICKABLE, 10);
+    public static final Locator UNIVERSITIES_FACULTIES = register("universities.faculties",
+            By.id("faculties"), WaitPolicy.CLICKABLE, 10);
+    public static final Locator UNIVERSITIES_PROGRAMS = register("universities.programs",
+            By.id("programs"), WaitPolicy.CLICKABLE, 10);
+    public static final Locator UNIVERSITIES_DEGREE_TYPES = register("universities.degreeTypes",
+            By.id("degree-types"), WaitPolicy.CLICKABLE, 10);
+    public static final Locator UNIVERSITIES_SORT_BY = register("universities.sortBy",
+            By.cssSelector("button[aria-label='Sort By']"), WaitPolicy.CLICKABLE, 10);
+
+    // ==================== PROGRAMS ====================
+
+    public static final Locator PROGRAMS_RESULT_COUNTER = register("programs.resultCounter",
+            By.cssSelector("span.text-xs.text-gray-500.font-medium"), WaitPolicy.ABSENT_OK, 0);
+    public static final Locator PROGRAMS_SEARCH_BOX = register("programs.searchBox",
+            By.cssSelector("input[data-slot='input'][aria-label='Search for a program']"), WaitPolicy.PRESENT, 10);
+    public static final Locator PROGRAMS_ERASER_BUTTON = register("programs.eraserButton",
+            By.cssSelector("button[data-slot='button'].text-destructive"), WaitPolicy.ABSENT_OK, 0);
+    public static final Locator PROGRAMS_ERASER_ICON = register("programs.eraserIcon",
+            By.cssSelector("svg.lucide-eraser"), WaitPolicy.ABSENT_OK, 0);
+    public static final Locator PROGRAMS_HAS_DISCOUNT = register("programs.hasDiscount",
+            By.id("has-discount"), WaitPolicy.PRESENT, 10);
+    public static final Locator PROGRAMS_UNIVERSITIES = register("programs.universities",
+            By.xpath("//button[@data-slot='popover-trigger' and .//span[normalize-space(text())='All Universities']]"), WaitPolicy.CLICKABLE, 10);
+    public static final Locator PROGRAMS_FACULTIES = register("programs.faculties",
+            By.xpath("//button[@data-slot='popover-trigger' and .//span[normalize-space(text())='All Faculties']]"), WaitPolicy.CLICKABLE, 10);
+    public static final Locator PROGRAMS_CITIES = register("programs.cities",
+            By.xpath("//button[@data-slot='popover-trigger' and .//span[normalize-space(text())='All Cities']]"), WaitPolicy.CLICKABLE, 10);
+    public static final Locator PROGRAMS_DEGREE_TYPES = register("programs.degreeTypes",
+            By.xpath("//button[@data-slot='popover-trigger' and .//span[normalize-space(text())='All Degree Types']]"), WaitPolicy.CLICKABLE, 10);
+    public static final Locator PROGRAMS_LANGUAGES = register("programs.languages",
+            By.xpath("//button[@data-slot='popover-trigger' and .//span[normalize-space(text())='All Languages']]"), WaitPolicy.CLICKABLE, 10);
+    public static final Locator PROGRAMS_DURATION = register("programs.duration",
+            By.xpath("//button[@data-slot='select-trigger' and .//span[normalize-space(text())='Any Duration']]"), WaitPolicy.CLICKABLE, 10);
+    public static final Locator PROGRAMS_SORT_BY = register("programs.sortBy",
+            By.xpath("//button[@data-slot='select-trigger' and .//span[normalize-space(text())='Sort By']]"), WaitPolicy.PRESENT, 10);
+
+    // ==================== BLOGS ====================
+
+    public static final Locator BLOGS_SEARCH_BOX = register("blogs.searchBox",
+            By.cssSelector("input[data-slot='input'][aria-label='Search Blogs']"), WaitPolicy.PRESENT, 10);
+    public static final Locator BLOGS_FIRST_CARD = register("blogs.firstCard",
+            By.cssSelector("main section div div a[href*='/blogs/']"), WaitPolicy.PRESENT, 10,
+            By.cssSelector("main a[href*='/blogs/']"));
+
+    // ==================== VISA SUPPORT ====================
+
+    public static final Locator VISA_SEARCH_BOX = register("visa.searchBox",
+            By.cssSelector("input[data-slot='input'][aria-label='Search Countries']"), WaitPolicy.PRESENT, 10);
+    public static final Locator VISA_RESULT_COUNTER = register("visa.resultCounter",
+            By.cssSelector("span.text-xs.text-black-text.opacity-80.font-medium"), WaitPolicy.ABSENT_OK, 0);
+    public static final Locator VISA_COUNTRY_CARD = register("visa.countryCard",
+            By.xpath("/html/body/main/div/section/div/div[2]/ul/li/a[1]"), WaitPolicy.PRESENT, 10,
+            By.cssSelector("body > main > div > section > div > div:nth-of-type(2) > ul > li > a:first-of-type"),
+            By.cssSelector("main section ul > li > a:first-of-type"));
+    public static final Locator VISA_PER_PAGE = register("visa.perPage",
+            By.cssSelector("button[type='button'][aria-labelledby='per-page-options']"), WaitPolicy.PRESENT, 10);
+    public static final Locator VISA_PER_PAGE_OPTIONS = register("visa.perPageOptions",
+            By.cssSelector("[role='option'], [role='menuitem'], li"), WaitPolicy.ABSENT_OK, 0);
+
+    static {
+        if (SuiteConfig.flag("promotedLocators")) {
+            loadPromotions();
+        }
+    }
+
+    private LocatorRegistry() {
+    }
+
+    private static Locator register(String name, By by, WaitPolicy policy, int timeoutSeconds, By... candidates) {
+        Locator locator = new Locator(name, by, policy, Duration.ofSeconds(timeoutSeconds), Arrays.asList(candidates));
+        REGISTRY.put(name, locator);
+        return locator;
+    }
+
+    public static Map<String, Locator> all() {
+        return Collections.unmodifiableMap(REGISTRY);
+    }
+
+    // ==================== PROMOTIONS ====================
+
+    /**
+     * Save the current promotions (locator name = candidate) to logs/
+     */
+    public static void savePromotions() {
+        Properties properties = new Properties();
+        for (Locator locator : REGISTRY.values()) {
+            if (locator.promoted != null) {
+                properties.setProperty(locator.name, locator.promoted.toString());
+            }
+        }
+        try {
+            Files.createDirectories(PROMOTIONS_FILE.getParent());
+            try (Writer writer = Files.newBufferedWriter(PROMOTIONS_FILE)) {
+                properties.store(writer, "Locator promotions measured by LocatorBenchmark");
+            }
+        } catch (IOException e) {
+            System.err.println("⚠️ Could not save locator promotions: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Apply saved promotions. Entries whose candidate is no longer registered are ignored.
+     */
+    private static void loadPromotions() {
+        if (!Files.exists(PROMOTIONS_FILE)) {
+            return;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(PROMOTIONS_FILE)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            System.err.println("⚠️ Could not read locator promotions: " + e.getMessage());
+            return;
+        }
+        for (String name : properties.stringPropertyNames()) {
+            Locator locator = REGISTRY.get(name);
+            if (locator == null) {
+                continue;
+            }
+            for (By candidate : locator.candidates) {
+                if (candidate.toString().equals(properties.getProperty(name))) {
+                    locator.promote(candidate);
+                }
+            }
+        }
+    }
+
+    // ==================== WAIT POLICY ====================
+
+    public static boolean isImplicitWaitDisabled() {
+        return SuiteConfig.flag("noImplicitWait");
+    }
+
+    /**
+     * Implicit wait for new drivers: 0 in policy mode, 500 ms otherwise
+     */
+    public static Duration implicitWait() {
+        return isImplicitWaitDisabled() ? Duration.ZERO : Duration.ofMillis(500);
+    }
+
+    /**
+     * Presence check following the locator's policy.
+     * ABSENT_OK returns after one lookup; other policies wait up to the locator timeout.
+     */
+    public static boolean isPresent(WebDriver driver, By by) {
+        Locator locator = asLocator(by);
+        if (locator.policy == WaitPolicy.ABSENT_OK) {
+            return !driver.findElements(locator).isEmpty() || !locator.heal(driver).isEmpty();
+        }
+        try {
+            await(driver, locator);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Wait for the element as its policy says and return it
+     */
+    public static WebElement await(WebDriver driver, By by) {
+        Locator locator = asLocator(by);
+        if (locator.policy == WaitPolicy.ABSENT_OK) {
+            List<WebElement> found = driver.findElements(locator);
+            if (found.isEmpty()) {
+                found = locator.heal(driver);
+            }
+            if (found.isEmpty()) {
+                throw new org.openqa.selenium.NoSuchElementException("Not present: " + locator);
+            }
+            return found.get(0);
+        }
+        WebDriverWait wait = new WebDriverWait(driver, TimeBudget.clamp(locator.timeout));
+        try {
+            switch (locator.policy) {
+                case VISIBLE:
+                    return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+                case CLICKABLE:
+                    return wait.until(ExpectedConditions.elementToBeClickable(locator));
+                default:
+                    return wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+            }
+        } catch (TimeoutException e) {
+            // Heal only once the wait gave up - an element still rendering is not a broken locator
+            for (WebElement healed : locator.heal(driver)) {
+                if (locator.policy == WaitPolicy.PRESENT || healed.isDisplayed()
+                        && (locator.policy != WaitPolicy.CLICKABLE || healed.isEnabled())) {
+                    return healed;
+                }
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Single lookup of a registered locator. Nothing waits after it, so a miss is
+     * healed right away (with -Dstudyleo.selfHeal=true).
+     */
+    public static List<WebElement> find(WebDriver driver, By by) {
+        Locator locator = asLocator(by);
+        List<WebElement> found = driver.findElements(locator);
+        return found.isEmpty() ? locator.heal(driver) : found;
+    }
+
+    /**
+     * Single lookup with no waiting - for scans where nothing found is a valid answer
+     */
+    public static List<WebElement> findNow(SearchContext context, By by) {
+        try {
+            return new ArrayList<>(context.findElements(by));
+        } catch (Exception e) {
+            return new ArrayList<>();
+        }
+    }
+
+    private static Locator asLocator(By by) {
+        if (by instanceof Locator) {
+            return (Locator) by;
+        }
+        return new Locator(by.toString(), by, WaitPolicy.PRESENT, Duration.ofSeconds(10), new ArrayList<>());
+    }
+
+    /**
+     * A By with a name and wait policy; usable anywhere Selenium takes a By.
+     * When a candidate is promoted it is tried first; if it finds nothing the primary
+     * is used, and a primary hit demotes the candidate again.
+     */
+    public static final class Locator extends By {
+        private final String name;
+        private final By primary;
+        private final WaitPolicy policy;
+        private final Duration timeout;
+        private final List<By> candidates;
+        private volatile By promoted;
+
+        private Locator(String name, By primary, WaitPolicy policy, Duration timeout, List<By> candidates) {
+            this.name = name;
+            this.primary = primary;
+            this.policy = policy;
+            this.timeout = timeout;
+            this.candidates = candidates;
+        }
+
+        public String getName() { return name; }
+        public By getPrimary() { return primary; }
+        public WaitPolicy getPolicy() { return policy; }
+        public Duration getTimeout() { return timeout; }
+        public List<By> getCandidates() { return Collections.unmodifiableList(candidates); }
+        public By getPromoted() { return promoted; }
+
+        /**
+         * Use a measured-faster candidate first (null = primary only)
+         */
+        public void promote(By candidate) {
+            if (candidate != null && !candidates.contains(candidate)) {
+                throw new IllegalArgumentException(candidate + " is not a candidate of " + name);
+            }
+            this.promoted = candidate;
+        }
+
+        @Override
+        public List<WebElement> findElements(SearchContext context) {
+            List<WebElement> found = lookup(context);
+            if (!found.isEmpty() && LocatorHealer.isEnabled()) {
+                LocatorHealer.record(name, context, found.get(0));
+            }
+            return found;
+        }
+
+        /**
+         * Healed match for a lookup that already gave up (empty = not healed).
+         * Not part of findElements: wait conditions poll that while the page renders.
+         */
+        List<WebElement> heal(SearchContext context) {
+            if (!LocatorHealer.isEnabled()) {
+                return new ArrayList<>();
+            }
+            return LocatorHealer.heal(name, context, policy == WaitPolicy.ABSENT_OK);
+        }
+
+        private List<WebElement> lookup(SearchContext context) {
+            By fast = promoted;
+            List<WebElement> found;
+            if (fast != null) {
+                found = context.findElements(fast);
+                if (!found.isEmpty()) {
+                    return found;
+                }
+                found = context.findElements(primary);
+                if (!found.isEmpty()) {
+                    System.err.println("⚠️ " + name + ": promoted " + fast + " missed, back to primary");
+                    promoted = null;
+                }
+            } else {
+                found = context.findElements(primary);
+            }
+            // A path healed earlier on this page answers at once instead of after the wait.
+            // ABSENT_OK skips it: a stale path must not turn an absent element into a present one.
+            if (found.isEmpty() && policy != WaitPolicy.ABSENT_OK && LocatorHealer.isEnabled()) {
+                return LocatorHealer.cached(name, context);
+            }
+            return found;
+        }
+
+        @Override
+        public WebElement findElement(SearchContext context) {
+            List<WebElement> found = findElements(context);
+            if (found.isEmpty()) {
+                throw new org.openqa.selenium.NoSuchElementException("Cannot locate " + this);
+            }
+            return found.get(0);
+        }
+
+        @Override
+        public String toString() {
+            return name + " (" + (promoted != null ? promoted + ", fallback " : "") + primary + ")";
+        }
+    }
+}
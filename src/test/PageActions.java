@@ -0,0 +1,142 @@
+import org.openqa.selenium.By;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Auto-waiting click / type / select.
+ * One injected script scrolls the element into view instantly, checks that it is
+ * visible, stable (no running finite animation), enabled and not covered, then acts.
+ * Not-ready states are retried until the timeout, so callers need no smooth-scroll sleeps.
+ */
+public class PageActions {
+
+    private static final long POLL_MILLIS = 50;
+
+    private static final String ACT_SCRIPT =
+            "var el = arguments[0], action = arguments[1], value = arguments[2], force = arguments[3];" +
+            "if (!el.isConnected) return 'detached';" +
+            "el.scrollIntoView({block: 'center', inline: 'center', behavior: 'instant'});" +
+            "var r = el.getBoundingClientRect(), st = getComputedStyle(el);" +
+            "if (r.width === 0 || r.height === 0 || st.visibility === 'hidden' || st.display === 'none') return 'hidden';" +
+            "var busy = (document.getAnimations ? document.getAnimations() : []).some(function (a) {" +
+            "  var t = a.effect && a.effect.target, timing = a.effect && a.effect.getComputedTiming();" +
+            "  return a.playState === 'running' && timing && timing.iterations !== Infinity" +
+            "    && t && (t === el || t.contains(el) || el.contains(t));" +
+            "});" +
+            "if (busy) return 'animating';" +
+            "if (el.disabled || el.getAttribute('aria-disabled') === 'true') return 'disabled';" +
+            "if (!force) {" +
+            "  var top = document.elementFromPoint(r.left + r.width / 2, r.top + r.height / 2);" +
+            "  if (top && top !== el && !el.contains(top) && !top.contains(el)) return 'covered by ' + top.tagName.toLowerCase();" +
+            "}" +
+            "if (action === 'click') { el.click(); return 'ok'; }" +
+            "if (action === 'reveal') { return 'ok'; }" +
+            "if (action === 'type') {" +
+            "  var proto = el instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype : HTMLInputElement.prototype;" +
+            "  el.focus();" +
+            "  Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, value);" +
+            "  el.dispatchEvent(new Event('input', {bubbles: true}));" +
+            "  el.dispatchEvent(new Event('change', {bubbles: true}));" +
+            "  return 'ok';" +
+            "}" +
+            "if (action === 'select') {" +
+            "  var opt = Array.from(el.options || []).find(function (o) { return o.text.trim() === value; });" +
+            "  if (!opt) return 'no option ' + value;" +
+            "  el.value = opt.value;" +
+            "  el.dispatchEvent(new Event('change', {bubbles: true}));" +
+            "  return 'ok';" +
+            "}" +
+            "return 'unknown action ' + action;";
+
+    private final WebDriver driver;
+    private final JavascriptExecutor js;
+    private final Duration timeout;
+
+    public PageActions(WebDriver driver) {
+        this(driver, Duration.ofSeconds(5));
+    }
+
+    public PageActions(WebDriver driver, Duration timeout) {
+        this.driver = driver;
+        this.js = (JavascriptExecutor) driver;
+        this.timeout = timeout;
+    }
+
+    public void click(WebElement element) {
+        perform(element, "click", null, false);
+    }
+
+    /**
+     * Click even if another element covers it (overlay / modal cases)
+     */
+    public void forceClick(WebElement element) {
+        perform(element, "click", null, true);
+    }
+
+    /**
+     * Replace the value of an input and fire input/change events
+     */
+    public void type(WebElement element, String text) {
+        perform(element, "type", text, false);
+    }
+
+    /**
+     * Scroll into view instantly and wait until the element is visible and stable
+     */
+    public void reveal(WebElement element) {
+        perform(element, "reveal", null, true);
+    }
+
+    /**
+     * Select by visible text - native select, or a custom trigger plus option list
+     */
+    public void select(WebElement element, String optionText) {
+        perform(element, "select", optionText, false);
+    }
+
+    public void select(WebElement trigger, By options, String optionText) {
+        click(trigger);
+        List<WebElement> found = new WebDriverWait(driver, TimeBudget.clamp(timeout))
+                .until(ExpectedConditions.presenceOfAllElementsLocatedBy(options));
+        for (WebElement option : found) {
+            if (option.getText().trim().equals(optionText)) {
+                click(option);
+                return;
+            }
+        }
+        throw new ElementNotInteractableException("Option not found: " + optionText);
+    }
+
+    private void perform(WebElement element, String action, String value, boolean force) {
+        long deadline = System.currentTimeMillis() + TimeBudget.clampMillis(timeout.toMillis());
+        String state;
+        do {
+            state = String.valueOf(js.executeScript(ACT_SCRIPT, element, action, value, force));
+            if ("ok".equals(state)) {
+                return;
+            }
+            if ("detached".equals(state)) {
+                throw new StaleElementReferenceException("Element detached before " + action);
+            }
+            if (state.startsWith("no option") || state.startsWith("unknown action")) {
+                break;
+            }
+            try {
+                Thread.sleep(POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        } while (System.currentTimeMillis() < deadline);
+
+        throw new ElementNotInteractableException(action + " failed: element " + state);
+    }
+}
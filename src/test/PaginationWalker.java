@@ -0,0 +1,288 @@
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Pagination consistency walker for Blogs and Visa Support.
+ * Every page of the list is read with one card-extraction script. When the page
+ * number is in the URL (?page=N), the remaining pages are opened in batches of
+ * -Dstudyleo.walkerTabs parallel tabs (default 4); otherwise they are walked with
+ * the Next button. Checks: no item on two pages, no empty or short page before
+ * the last one, every page as large as the Per Page selection, and the number of
+ * unique items equal to the total in "Showing X of Y" where the page has one.
+ */
+public final class PaginationWalker {
+
+    private static final Pattern SHOWING = Pattern.compile("Showing\\s+([0-9,]+)\\s+of\\s+([0-9,]+)");
+
+    static final List<Target> TARGETS = List.of(
+            new Target("Blogs", "/blogs", "/blogs/", null, null),
+            // Country pages use both URL forms (see VisaSupportTest.testCountryLink)
+            new Target("Visa Support", "/study-visa-support-in-turkey", "/visa-support/,/study-visa-support-in-turkey/",
+                    LocatorRegistry.VISA_RESULT_COUNTER, LocatorRegistry.VISA_PER_PAGE)
+    );
+
+    private PaginationWalker() {
+    }
+
+    public static void run() {
+        long startTime = System.currentTimeMillis();
+        BrowserContextPool pool = BrowserContextPool.launch(TARGETS.size());
+        ExecutorService executor = Executors.newFixedThreadPool(TARGETS.size());
+        List<Walk> walks = Collections.synchronizedList(new ArrayList<>());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Target target : TARGETS) {
+                futures.add(executor.submit(() -> {
+                    BrowserContextPool.Lease lease = pool.acquire("walk-" + target.name);
+                    try {
+                        walks.add(walk(lease.getDriver(), target));
+                    } finally {
+                        pool.release(lease);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (Exception e) {
+                    System.err.println("❌ Pagination walker failed: " + e.getMessage());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+            pool.close();
+        }
+        printReport(walks, (System.currentTimeMillis() - startTime) / 1000);
+    }
+
+    /**
+     * Read every page of one list; also used by LinkChecker and BlogIndex to collect detail URLs
+     */
+    static Walk walk(WebDriver driver, Target target) {
+        Walk walk = new Walk(target);
+        PageActions actions = new PageActions(driver);
+        try {
+            SiteBootstrap.openDirect(driver, target.page);
+            List<Map<String, Object>> first = awaitCards(driver, target);
+            walk.perPage = readPerPage(driver, target, first.size());
+            walk.showingTotal = readShowingTotal(driver, target);
+            walk.addPage(1, first);
+
+            // Page 2 through the UI tells whether pages are addressable by URL
+            if (!SortVerifier.nextPage(driver, actions, target.linkPart)) {
+                return walk;
+            }
+            String secondUrl = driver.getCurrentUrl();
+            int lastPage = readLastPage(driver);
+            if (secondUrl.contains("page=2") && lastPage > 2) {
+                walk.mode = "parallel tabs";
+                walk.addPage(2, CatalogueMirror.readCards(driver, target.linkPart));
+                walkInTabs(driver, target, walk, secondUrl, lastPage);
+            } else {
+                walk.mode = "Next button";
+                int page = 2;
+                do {
+                    walk.addPage(page++, CatalogueMirror.readCards(driver, target.linkPart));
+                } while (SortVerifier.nextPage(driver, actions, target.linkPart));
+            }
+        } catch (Exception e) {
+            walk.error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        }
+        return walk;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void walkInTabs(WebDriver driver, Target target, Walk walk, String secondUrl, int lastPage) {
+        int batch = Math.max(1, SuiteConfig.intValue("walkerTabs", 4));
+        for (int from = 3; from <= lastPage; from += batch) {
+            List<String> urls = new ArrayList<>();
+            for (int page = from; page <= Math.min(lastPage, from + batch - 1); page++) {
+                urls.add(secondUrl.replace("page=2", "page=" + page));
+            }
+            List<ParallelTabs.TabResult> tabs = ParallelTabs.open(driver, urls, Duration.ofSeconds(15),
+                    CatalogueMirror.CARDS_SCRIPT, target.linkPart);
+            for (int i = 0; i < tabs.size(); i++) {
+                ParallelTabs.TabResult tab = tabs.get(i);
+                if (!tab.isLoaded() || !(tab.extracted instanceof List)) {
+                    // a tab that never loaded says nothing about the site, so it is not a gap
+                    walk.addFailure(from + i, "page " + (from + i) + " did not load in its tab ("
+                            + tab.readyState + ", HTTP " + tab.status + ")");
+                    continue;
+                }
+                walk.addPage(from + i, (List<Map<String, Object>>) tab.extracted);
+            }
+        }
+    }
+
+    private static List<Map<String, Object>> awaitCards(WebDriver driver, Target target) {
+        return new AdaptiveWait(driver, Duration.ofSeconds(10)).until(d -> {
+            List<Map<String, Object>> cards = CatalogueMirror.readCards(d, target.linkPart);
+            return cards.isEmpty() ? null : cards;
+        });
+    }
+
+    /**
+     * "20 Per Page" on the Per Page button; lists without one use the size of page 1
+     */
+    private static int readPerPage(WebDriver driver, Target target, int firstPageSize) {
+        if (target.perPage != null) {
+            for (WebElement button : LocatorRegistry.findNow(driver, target.perPage)) {
+                String digits = button.getText().replaceAll("[^0-9]", "");
+                if (!digits.isEmpty()) {
+                    return Integer.parseInt(digits);
+                }
+            }
+        }
+        return firstPageSize;
+    }
+
+    private static int readShowingTotal(WebDriver driver, Target target) {
+        if (target.counter == null) {
+            return -1;
+        }
+        for (String text : DomSnapshot.capture(driver).texts(target.counter)) {
+            Matcher matcher = SHOWING.matcher(text);
+            if (matcher.find()) {
+                return Integer.parseInt(matcher.group(2).replace(",", ""));
+            }
+        }
+        return -1;
+    }
+
+    private static int readLastPage(WebDriver driver) {
+        int last = 0;
+        for (String text : DomSnapshot.capture(driver).texts(LocatorRegistry.PAGINATION_LINKS)) {
+            if (text.matches("\\d+")) {
+                last = Math.max(last, Integer.parseInt(text));
+            }
+        }
+        return last;
+    }
+
+    private static void printReport(List<Walk> walks, long seconds) {
+        System.out.println("\n================== PAGINATION ==================");
+        synchronized (walks) {
+            for (Walk walk : walks) {
+                List<String> problems = walk.problems();
+                System.out.println((problems.isEmpty() ? "✅ " : "❌ ") + walk.target.name + ": "
+                        + walk.unique() + " unique items on " + walk.pageSizes.size() + " pages, "
+                        + walk.perPage + " per page"
+                        + (walk.showingTotal == -1 ? "" : ", site total " + walk.showingTotal)
+                        + " (" + walk.mode + ")");
+                for (String problem : problems) {
+                    System.out.println("   ⚠️ " + problem);
+                }
+            }
+        }
+        System.out.println("Duration: " + seconds + " s");
+        System.out.println("================================================");
+    }
+
+    static final class Target {
+        final String name;
+        final String page;
+        final String linkPart;
+        final LocatorRegistry.Locator counter;
+        final LocatorRegistry.Locator perPage;
+
+        Target(String name, String page, String linkPart, LocatorRegistry.Locator counter, LocatorRegistry.Locator perPage) {
+            this.name = name;
+            this.page = page;
+            this.linkPart = linkPart;
+            this.counter = counter;
+            this.perPage = perPage;
+        }
+    }
+
+    static final class Walk {
+        final Target target;
+        // item href -> first page it appeared on
+        final Map<String, Integer> firstPage = new LinkedHashMap<>();
+        // item href -> card as first read (name, text)
+        final Map<String, Map<String, Object>> cards = new HashMap<>();
+        final Map<Integer, Integer> pageSizes = new HashMap<>();
+        final List<String> duplicates = new ArrayList<>();
+        // pages the walker could not read; reported as walker errors, not as gaps
+        final Set<Integer> unread = new HashSet<>();
+        int perPage;
+        int showingTotal = -1;
+        String mode = "single page";
+        String error;
+
+        Walk(Target target) {
+            this.target = target;
+        }
+
+        void addPage(int page, List<Map<String, Object>> cards) {
+            pageSizes.put(page, cards.size());
+            for (Map<String, Object> card : cards) {
+                String href = String.valueOf(card.get("href"));
+                Integer seen = firstPage.putIfAbsent(href, page);
+                this.cards.putIfAbsent(href, card);
+                if (seen != null) {
+                    duplicates.add(href + " on page " + seen + " and " + page);
+                }
+            }
+        }
+
+        void addFailure(int page, String reason) {
+            unread.add(page);
+            error = error == null ? reason : error + "; " + reason;
+        }
+
+        int unique() {
+            return firstPage.size();
+        }
+
+        List<String> hrefs() {
+            return new ArrayList<>(firstPage.keySet());
+        }
+
+        List<String> problems() {
+            List<String> problems = new ArrayList<>();
+            if (error != null) {
+                problems.add(error);
+            }
+            for (String duplicate : duplicates.subList(0, Math.min(10, duplicates.size()))) {
+                problems.add("Duplicate: " + duplicate);
+            }
+            if (duplicates.size() > 10) {
+                problems.add("... and " + (duplicates.size() - 10) + " more duplicates");
+            }
+            int lastPage = pageSizes.keySet().stream().max(Integer::compare).orElse(0);
+            for (int page = 1; page <= lastPage; page++) {
+                if (unread.contains(page)) {
+                    continue;
+                }
+                Integer size = pageSizes.get(page);
+                if (size == null || size == 0) {
+                    problems.add("Gap: page " + page + " has no items");
+                } else if (page < lastPage && size != perPage) {
+                    problems.add("Page " + page + " has " + size + " items, Per Page is " + perPage);
+                } else if (page == lastPage && size > perPage) {
+                    problems.add("Last page has " + size + " items, Per Page is " + perPage);
+                }
+            }
+            if (showingTotal != -1 && unread.isEmpty() && unique() != showingTotal) {
+                problems.add("Walked " + unique() + " unique items, \"Showing X of Y\" says " + showingTotal);
+            }
+            return problems;
+        }
+    }
+}
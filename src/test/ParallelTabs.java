@@ -0,0 +1,177 @@
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Opens several URLs at once in new tabs of the same session and collects
+ * the load result of every tab. The tabs are created back to back with CDP
+ * Target.createTarget, so the browser loads them concurrently instead of one
+ * round trip each. An optional extraction script is run in every tab before it
+ * is closed. Tabs are created in the browser context of the caller's window and
+ * tracked by the target ids CDP returns, so callers sharing one browser never
+ * switch into, read or close each other's tabs.
+ */
+public final class ParallelTabs {
+
+    private static final String READ_SCRIPT =
+            "var nav = performance.getEntriesByType('navigation')[0];" +
+            "return { url: location.href, readyState: document.readyState," +
+            " title: document.title, status: nav && nav.responseStatus ? nav.responseStatus : 0," +
+            " loadMillis: nav ? Math.round(nav.duration) : -1 };";
+
+    private ParallelTabs() {
+    }
+
+    /**
+     * Open all urls in tabs, wait for each to finish loading, read results and close the tabs.
+     * Results keep the order of the input list.
+     */
+    public static List<TabResult> open(WebDriver driver, List<String> urls, Duration timeout) {
+        return open(driver, urls, timeout, null);
+    }
+
+    /**
+     * Same as open, and each tab also runs extractScript (with args) until it returns a
+     * non-empty value or the timeout passes; the value is in TabResult.extracted
+     */
+    @SuppressWarnings("unchecked")
+    public static List<TabResult> open(WebDriver driver, List<String> urls, Duration timeout,
+                                       String extractScript, Object... args) {
+        String original = driver.getWindowHandle();
+        List<TabResult> results = new ArrayList<>();
+        for (String url : urls) {
+            results.add(new TabResult(url));
+        }
+
+        // ChromeDriver window handles are DevTools target ids
+        String contextId = browserContextOf(driver, original);
+        Map<String, Integer> own = new LinkedHashMap<>();
+        try {
+            for (int i = 0; i < urls.size(); i++) {
+                Map<String, Object> params = new HashMap<>();
+                params.put("url", urls.get(i));
+                params.put("background", true);
+                if (contextId != null) {
+                    params.put("browserContextId", contextId);
+                }
+                own.put((String) CdpSupport.execute(driver, "Target.createTarget", params).get("targetId"), i);
+            }
+
+            WebDriverWait wait = new WebDriverWait(driver, TimeBudget.clamp(timeout));
+            try {
+                wait.until(d -> d.getWindowHandles().containsAll(own.keySet()));
+            } catch (Exception e) {
+                System.err.println("⚠️ Not every tab became a window of this session in time");
+            }
+
+            Set<String> handles = driver.getWindowHandles();
+            for (Map.Entry<String, Integer> tab : own.entrySet()) {
+                if (!handles.contains(tab.getKey())) {
+                    continue;
+                }
+                try {
+                    driver.switchTo().window(tab.getKey());
+                    try {
+                        wait.until(d -> "complete".equals(((JavascriptExecutor) d)
+                                .executeScript("return document.readyState")));
+                    } catch (Exception e) {
+                        // Result still read below, readyState shows how far it got
+                    }
+                    Map<String, Object> info = (Map<String, Object>) ((JavascriptExecutor) driver)
+                            .executeScript(READ_SCRIPT);
+                    results.get(tab.getValue()).fill(info);
+                    if (extractScript != null) {
+                        results.get(tab.getValue()).extracted = extract(wait, extractScript, args);
+                    }
+                } catch (Exception e) {
+                    System.err.println("⚠️ Tab read failed: " + e.getMessage());
+                }
+            }
+        } finally {
+            driver.switchTo().window(original);
+            // Close by target id: also reaches tabs that never showed up as a window in time
+            for (String targetId : own.keySet()) {
+                closeTarget(driver, targetId);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * browserContextId of the window, null = default context (plain ChromeDriver)
+     */
+    @SuppressWarnings("unchecked")
+    private static String browserContextOf(WebDriver driver, String handle) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("targetId", handle);
+        try {
+            Map<String, Object> info = (Map<String, Object>) CdpSupport
+                    .execute(driver, "Target.getTargetInfo", params).get("targetInfo");
+            Object contextId = info == null ? null : info.get("browserContextId");
+            return contextId == null ? null : String.valueOf(contextId);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static void closeTarget(WebDriver driver, String targetId) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("targetId", targetId);
+        try {
+            CdpSupport.execute(driver, "Target.closeTarget", params);
+        } catch (Exception ignored) {
+            // Tab already gone
+        }
+    }
+
+    /**
+     * Client-rendered content may appear after readyState=complete, so poll the script
+     */
+    private static Object extract(WebDriverWait wait, String script, Object[] args) {
+        try {
+            return wait.until(d -> {
+                Object value = ((JavascriptExecutor) d).executeScript(script, args);
+                return value == null || value instanceof List && ((List<?>) value).isEmpty() ? null : value;
+            });
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    public static final class TabResult {
+        public final String requestedUrl;
+        public String finalUrl;
+        public String readyState = "not-opened";
+        public String title = "";
+        public long status;
+        public long loadMillis = -1;
+        public Object extracted;
+
+        TabResult(String requestedUrl) {
+            this.requestedUrl = requestedUrl;
+        }
+
+        void fill(Map<String, Object> info) {
+            finalUrl = String.valueOf(info.get("url"));
+            readyState = String.valueOf(info.get("readyState"));
+            title = String.valueOf(info.get("title"));
+            status = ((Number) info.get("status")).longValue();
+            loadMillis = ((Number) info.get("loadMillis")).longValue();
+        }
+
+        /**
+         * Loaded completely and no HTTP error (status 0 = browser did not report it)
+         */
+        public boolean isLoaded() {
+            return "complete".equals(readyState) && (status == 0 || status < 400);
+        }
+    }
+}
@@ -10,10 +10,8 @@ import io.github.bonigarcia.wdm.WebDriverManager;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.TimeoutException;
-import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.IOException;
@@ -23,13 +21,16 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
-public class ProgramsFilterTest {
+public class ProgramsFilterTest implements SuiteTest {
 
     private WebDriver driver;
     private WebDriverWait wait;
     private WebDriverWait shortWait;
     private JavascriptExecutor js;
+    private PageActions actions;
+    private AdaptiveWait resultWait;
 
     private static final String SITE_URL = "https://studyleo.com/en";
 
@@ -43,39 +44,44 @@ public class ProgramsFilterTest {
     private String screenshotFolder;
 
     // Locators
-    private By acceptCookiesButton = By.cssSelector("button[data-testid='cookie-banner-accept-button']");
-    private By programsLink = By.cssSelector("a[data-slot='navigation-menu-link'][href='/en/programs']");
+    private By acceptCookiesButton = LocatorRegistry.COOKIE_ACCEPT;
+    private By programsLink = LocatorRegistry.NAV_PROGRAMS;
 
     // Result counter - "6,588 Programs Found"
-    private By resultCounter = By.cssSelector("span.text-xs.text-gray-500.font-medium");
+    private By resultCounter = LocatorRegistry.PROGRAMS_RESULT_COUNTER;
 
     // Search box
-    private By searchBox = By.cssSelector("input[data-slot='input'][aria-label='Search for a program']");
+    private By searchBox = LocatorRegistry.PROGRAMS_SEARCH_BOX;
 
     // Eraser button - JavaScript click lazımdır
-    private By eraserButton = By.cssSelector("button[data-slot='button'].text-destructive");
+    private By eraserButton = LocatorRegistry.PROGRAMS_ERASER_BUTTON;
 
     // Has Discount button
-    private By hasDiscountBtn = By.id("has-discount");
+    private By hasDiscountBtn = LocatorRegistry.PROGRAMS_HAS_DISCOUNT;
 
     // 6 Dropdowns
-    private By allUniversitiesDropdown = By.xpath("//button[@data-slot='popover-trigger' and .//span[normalize-space(text())='All Universities']]");
-    private By allFacultiesDropdown = By.xpath("//button[@data-slot='popover-trigger' and .//span[normalize-space(text())='All Faculties']]");
-    private By allCitiesDropdown = By.xpath("//button[@data-slot='popover-trigger' and .//span[normalize-space(text())='All Cities']]");
-    private By allDegreeTypesDropdown = By.xpath("//button[@data-slot='popover-trigger' and .//span[normalize-space(text())='All Degree Types']]");
-    private By allLanguagesDropdown = By.xpath("//button[@data-slot='popover-trigger' and .//span[normalize-space(text())='All Languages']]");
-    private By anyDurationDropdown = By.xpath("//button[@data-slot='select-trigger' and .//span[normalize-space(text())='Any Duration']]");
+    private By allUniversitiesDropdown = LocatorRegistry.PROGRAMS_UNIVERSITIES;
+    private By allFacultiesDropdown = LocatorRegistry.PROGRAMS_FACULTIES;
+    private By allCitiesDropdown = LocatorRegistry.PROGRAMS_CITIES;
+    private By allDegreeTypesDropdown = LocatorRegistry.PROGRAMS_DEGREE_TYPES;
+    private By allLanguagesDropdown = LocatorRegistry.PROGRAMS_LANGUAGES;
+    private By anyDurationDropdown = LocatorRegistry.PROGRAMS_DURATION;
 
     // Sort By dropdown
-    private By sortByDropdown = By.xpath("//button[@data-slot='select-trigger' and .//span[normalize-space(text())='Sort By']]");
+    private By sortByDropdown = LocatorRegistry.PROGRAMS_SORT_BY;
 
     // Dropdown options
-    private By dropdownOptions = By.cssSelector("div[data-slot='command-item'], [role='option']");
+    private By dropdownOptions = LocatorRegistry.DROPDOWN_OPTIONS;
 
     // Test statistics
     private int totalTests = 0;
     private int passedTests = 0;
     private int failedTests = 0;
+    private final CaseRunner cases = new CaseRunner(this, (total, passed, failed) -> {
+        totalTests += total;
+        passedTests += passed;
+        failedTests += failed;
+    }, this::log, this::logError, this::recycleDriver);
     private int screenshotCount = 0;
 
     // Constants for filtering dropdown options
@@ -94,12 +100,13 @@ public class ProgramsFilterTest {
         this.sharedDriver = sharedDriver;
         if (driver != null && sharedDriver) {
             this.driver = driver;
-            this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-            this.shortWait = new WebDriverWait(driver, Duration.ofSeconds(5));
+            this.wait = new AdaptiveWait(driver, Duration.ofSeconds(10));
+            this.shortWait = new AdaptiveWait(driver, Duration.ofSeconds(5));
             this.js = (JavascriptExecutor) driver;
         } else {
             initializeDriver();
         }
+        this.actions = new PageActions(this.driver);
         initializeLog();
     }
 
@@ -112,11 +119,13 @@ public class ProgramsFilterTest {
         options.addArguments("--disable-blink-features=AutomationControlled");
 
         driver = new ChromeDriver(options);
+        ResourceTracker.driverOpened(driver);
+        SessionState.inject(driver);
         driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(10));
-        driver.manage().timeouts().implicitlyWait(Duration.ofMillis(500));
+        driver.manage().timeouts().implicitlyWait(LocatorRegistry.implicitWait());
 
-        wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        shortWait = new WebDriverWait(driver, Duration.ofSeconds(5));
+        wait = new AdaptiveWait(driver, Duration.ofSeconds(10));
+        shortWait = new AdaptiveWait(driver, Duration.ofSeconds(5));
         js = (JavascriptExecutor) driver;
     }
 
@@ -164,6 +173,7 @@ public class ProgramsFilterTest {
     }
 
     private void logError(String message) {
+        cases.observe(message);
         String errorMsg = "❌ " + message;
         System.err.println(errorMsg);
         logMessages.add(errorMsg);
@@ -172,13 +182,14 @@ public class ProgramsFilterTest {
     private String takeScreenshot(String fileName) {
         try {
             TakesScreenshot screenshot = (TakesScreenshot) driver;
-            File sourceFile = screenshot.getScreenshotAs(OutputType.FILE);
+            // BYTES instead of FILE: no Selenium temp file left behind
+            byte[] png = screenshot.getScreenshotAs(OutputType.BYTES);
 
             String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("HHmmss"));
             String screenshotName = fileName + "_" + timestamp + ".png";
             String destinationPath = screenshotFolder + "/" + screenshotName;
 
-            Files.copy(sourceFile.toPath(), Paths.get(destinationPath), StandardCopyOption.REPLACE_EXISTING);
+            Files.write(Paths.get(destinationPath), png);
 
             screenshotCount++;
             log("📸 Screenshot saved: " + destinationPath);
@@ -193,7 +204,7 @@ public class ProgramsFilterTest {
 
     private void sleep(int milliseconds) {
         try {
-            Thread.sleep(milliseconds);
+            Thread.sleep(TimeBudget.clampMillis(milliseconds));
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
@@ -220,7 +231,7 @@ public class ProgramsFilterTest {
     private int getResultCount() {
         try {
             // Try to find span with "Programs Found" text
-            List<WebElement> spans = driver.findElements(resultCounter);
+            List<WebElement> spans = LocatorRegistry.find(driver, resultCounter);
 
             for (WebElement span : spans) {
                 String text = span.getText().trim();
@@ -249,15 +260,19 @@ public class ProgramsFilterTest {
      * Polls every 500ms until count changes or timeout
      */
     private boolean waitForResultChange(int previousCount, int timeoutSeconds) {
+        if (resultWait == null) {
+            resultWait = new AdaptiveWait(driver, Duration.ofSeconds(timeoutSeconds));
+        }
+        resultWait.withFallback(Duration.ofSeconds(timeoutSeconds));
         try {
-            WebDriverWait tempWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-            tempWait.until(driver -> {
+            resultWait.until(driver -> {
                 int current = getResultCount();
                 return current != -1 && current != previousCount;
             });
             return true;
         } catch (TimeoutException e) {
-            log("   ⚠️  Result count did not change within " + timeoutSeconds + " seconds");
+            log("   ⚠️  Result count did not change within "
+                    + resultWait.currentTimeout().toMillis() / 1000.0 + " seconds");
             return false;
         }
     }
@@ -271,7 +286,7 @@ public class ProgramsFilterTest {
             log("🧹 Clearing filters...");
 
             // Bütün text-destructive buttonları tap
-            List<WebElement> destructiveButtons = driver.findElements(eraserButton);
+            List<WebElement> destructiveButtons = LocatorRegistry.findNow(driver, eraserButton);
 
             if (destructiveButtons.isEmpty()) {
                 log("   ⚠️ No destructive buttons found");
@@ -280,15 +295,11 @@ public class ProgramsFilterTest {
 
             // Eraser SVG icon olanı tap
             for (WebElement btn : destructiveButtons) {
-                List<WebElement> eraserSvg = btn.findElements(By.cssSelector("svg.lucide-eraser"));
+                List<WebElement> eraserSvg = LocatorRegistry.findNow(btn, LocatorRegistry.PROGRAMS_ERASER_ICON);
 
                 if (!eraserSvg.isEmpty()) {
-                    // Scroll into view
-                    js.executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", btn);
-                    sleep(300);
-
                     // JavaScript click (overlay problemi yoxdur)
-                    js.executeScript("arguments[0].click();", btn);
+                    actions.forceClick(btn);
                     log("   ✅ Eraser button clicked (via JavaScript)");
                     sleep(500); // Animation bitsin
                     return;
@@ -306,12 +317,10 @@ public class ProgramsFilterTest {
      * Select first non-default option from a dropdown
      * Clicks dropdown to open, waits for options, clicks first valid option
      */
-    private boolean selectFirstDropdownOption(By dropdownLocator, String dropdownName) {
+    private String selectFirstDropdownOption(By dropdownLocator, String dropdownName) {
         try {
             WebElement dropdown = wait.until(ExpectedConditions.elementToBeClickable(dropdownLocator));
-            js.executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", dropdown);
-            sleep(300);
-            js.executeScript("arguments[0].click();", dropdown);
+            actions.click(dropdown);
             sleep(500);
 
             wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(dropdownOptions));
@@ -342,19 +351,41 @@ public class ProgramsFilterTest {
 
                         js.executeScript("arguments[0].click();", option);
                         log("   ✓ Selected: " + check);
-                        return true;
+                        return optionText.isEmpty() ? String.valueOf(innerText).trim() : optionText;
                     }
                 } catch (Exception e) {
                     continue;
                 }
             }
             log("   Skipped " + skipped + " options due to filtering.");
-            return false;
+            return null;
 
         } catch (Exception e) {
             logError("Failed to select dropdown option: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Compare the site counter with the offline catalogue oracle (-Dstudyleo.catalogueOracle=true).
+     * true when the oracle is off, cannot judge this filter, or agrees.
+     */
+    private boolean matchesOracle(Map<String, String> filters, String search, boolean discount, int siteCount) {
+        CatalogueOracle oracle = CatalogueOracle.get();
+        if (oracle == null || siteCount == -1) {
+            return true;
+        }
+        CatalogueOracle.Expectation expected = oracle.expect(filters, search, discount);
+        if (expected == null) {
+            log("   🗂️ Oracle: filter value not in the mirror - not compared");
+            return true;
+        }
+        log("   🗂️ Oracle: expected " + expected + " (" + expected.micros + " µs), site shows " + formatCount(siteCount));
+        if (!expected.accepts(siteCount)) {
+            logError("Site count " + siteCount + " does not match the catalogue mirror (" + expected + ")");
             return false;
         }
+        return true;
     }
 
     // ==================== TEST METHODS ====================
@@ -383,10 +414,7 @@ public class ProgramsFilterTest {
             // Type in search box
             log("   Searching for: \"engineering\"");
             WebElement searchInput = wait.until(ExpectedConditions.presenceOfElementLocated(searchBox));
-            js.executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", searchInput);
-            sleep(300);
-            searchInput.clear();
-            searchInput.sendKeys("engineering");
+            actions.type(searchInput, "engineering");
             sleep(500);
 
             // Wait for results to update
@@ -397,7 +425,10 @@ public class ProgramsFilterTest {
             log("   Result: " + formatCount(initialCount) + " → " + formatCount(filteredCount));
 
             // Validate
-            if (changed && filteredCount != -1 && filteredCount != initialCount) {
+            if (!matchesOracle(Map.of(), "engineering", false, filteredCount)) {
+                failedTests++;
+                takeScreenshot("SEARCH_ORACLE_MISMATCH");
+            } else if (changed && filteredCount != -1 && filteredCount != initialCount) {
                 log("✅ PASS - Count changed");
                 passedTests++;
             } else {
@@ -441,9 +472,7 @@ public class ProgramsFilterTest {
             // Click button with JavaScript
             log("   🖱️  Clicking Has Discount button...");
             WebElement button = wait.until(ExpectedConditions.presenceOfElementLocated(hasDiscountBtn));
-            js.executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", button);
-            sleep(300);
-            js.executeScript("arguments[0].click();", button);
+            actions.click(button);
             sleep(1000);
 
             // Wait for results to update
@@ -454,7 +483,10 @@ public class ProgramsFilterTest {
             log("   Result: " + formatCount(initialCount) + " → " + formatCount(filteredCount));
 
             // Validate
-            if (filteredCount != -1 && filteredCount != initialCount) {
+            if (!matchesOracle(Map.of(), null, true, filteredCount)) {
+                failedTests++;
+                takeScreenshot("DISCOUNT_ORACLE_MISMATCH");
+            } else if (filteredCount != -1 && filteredCount != initialCount) {
                 log("✅ PASS - Count changed");
                 passedTests++;
             } else if (filteredCount == initialCount) {
@@ -500,9 +532,9 @@ public class ProgramsFilterTest {
 
             // Select first option from dropdown
             log("   🖱️  Opening " + dropdownName + "...");
-            boolean optionSelected = selectFirstDropdownOption(dropdownLocator, dropdownName);
+            String selectedOption = selectFirstDropdownOption(dropdownLocator, dropdownName);
 
-            if (!optionSelected) {
+            if (selectedOption == null) {
                 logError("No valid option found in dropdown");
                 failedTests++;
                 takeScreenshot(dropdownName.replaceAll(" ", "_") + "_NO_OPTIONS");
@@ -519,7 +551,10 @@ public class ProgramsFilterTest {
             log("   Result: " + formatCount(initialCount) + " → " + formatCount(filteredCount));
 
             // Validate
-            if (changed && filteredCount != -1 && filteredCount != initialCount) {
+            if (!matchesOracle(Map.of(dropdownName, selectedOption), null, false, filteredCount)) {
+                failedTests++;
+                takeScreenshot(dropdownName.replaceAll(" ", "_") + "_ORACLE_MISMATCH");
+            } else if (changed && filteredCount != -1 && filteredCount != initialCount) {
                 log("✅ PASS - Count changed");
                 passedTests++;
             } else {
@@ -563,9 +598,7 @@ public class ProgramsFilterTest {
             // Open dropdown with JavaScript
             log("   🖱️  Opening Sort By dropdown...");
             WebElement dropdown = wait.until(ExpectedConditions.presenceOfElementLocated(sortByDropdown));
-            js.executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", dropdown);
-            sleep(300);
-            js.executeScript("arguments[0].click();", dropdown);
+            actions.click(dropdown);
             sleep(500);
 
             // Wait for options to appear
@@ -627,16 +660,39 @@ public class ProgramsFilterTest {
 
     // ==================== MAIN TEST FLOW ====================
 
+    /**
+     * Replace an unhealthy browser session and reopen the page under test
+     */
+    private void recycleDriver(String reason) {
+        log("♻️ Browser unhealthy (" + reason + ") - recycling session");
+        driver = BrowserHealth.recycle(driver, getTestClassName(), reason, true);
+        wait = new AdaptiveWait(driver, Duration.ofSeconds(10));
+        shortWait = new AdaptiveWait(driver, Duration.ofSeconds(5));
+        js = (JavascriptExecutor) driver;
+        actions = new PageActions(driver);
+        resultWait = null;
+        openProgramsPageDirect();
+    }
+
     public void run() {
         try {
+            if (CircuitBreaker.isOpen()) {
+                logError("SKIPPED " + getTestClassName() + " - " + CircuitBreaker.getReason());
+                return;
+            }
+
             log("\n" + "█".repeat(70));
             log("█  🚀 STARTING PROGRAMS FILTER TESTING" + " ".repeat(30) + "█");
             log("█".repeat(70) + "\n");
 
-            openWebsite();
-            acceptCookies();
-            clickProgramsLink();
-            sleep(1000);
+            if (SuiteConfig.isDirectNavigation()) {
+                openProgramsPageDirect();
+            } else {
+                openWebsite();
+                acceptCookies();
+                clickProgramsLink();
+                sleep(1000);
+            }
 
             // Get initial count to verify page loaded
             int initialCount = getResultCount();
@@ -648,15 +704,15 @@ public class ProgramsFilterTest {
             }
 
             // Run all tests
-            testSearchBox();
-            testHasDiscountButton();
-            testDropdown("All Universities", allUniversitiesDropdown, 3);
-            testDropdown("All Faculties", allFacultiesDropdown, 4);
-            testDropdown("All Cities", allCitiesDropdown, 5);
-            testDropdown("All Degree Types", allDegreeTypesDropdown, 6);
-            testDropdown("All Languages", allLanguagesDropdown, 7);
-            testDropdown("Any Duration", anyDurationDropdown, 8);
-            testSortBy();
+            cases.run("testSearchBox", this::testSearchBox);
+            cases.run("testHasDiscountButton", this::testHasDiscountButton);
+            cases.run("testDropdown (All Universities)", () -> testDropdown("All Universities", allUniversitiesDropdown, 3));
+            cases.run("testDropdown (All Faculties)", () -> testDropdown("All Faculties", allFacultiesDropdown, 4));
+            cases.run("testDropdown (All Cities)", () -> testDropdown("All Cities", allCitiesDropdown, 5));
+            cases.run("testDropdown (All Degree Types)", () -> testDropdown("All Degree Types", allDegreeTypesDropdown, 6));
+            cases.run("testDropdown (All Languages)", () -> testDropdown("All Languages", allLanguagesDropdown, 7));
+            cases.run("testDropdown (Any Duration)", () -> testDropdown("Any Duration", anyDurationDropdown, 8));
+            cases.run("testSortBy", this::testSortBy);
 
             printSummary();
 
@@ -674,6 +730,7 @@ public class ProgramsFilterTest {
         log("   Total Tests: " + totalTests);
         log("   ✅ Passed: " + passedTests);
         log("   ❌ Failed: " + failedTests);
+        log("   ⏭️ Skipped: " + cases.getSkipped());
 
         double successRate = totalTests > 0
                 ? (passedTests * 100.0 / totalTests)
@@ -691,12 +748,23 @@ public class ProgramsFilterTest {
         log("✅ Website opened\n");
     }
 
+    private void openProgramsPageDirect() {
+        log("🌐 Opening directly: " + SITE_URL + "/programs");
+        SiteBootstrap.openDirect(driver, "/programs");
+        log("✅ Programs page opened\n");
+    }
+
     private void acceptCookies() {
+        if (SessionState.isApplied(driver)) {
+            log("🍪 Cookie consent restored from session snapshot\n");
+            return;
+        }
         log("🍪 Accepting cookies...");
         try {
             if (isElementPresent(acceptCookiesButton)) {
                 WebElement cookieBtn = driver.findElement(acceptCookiesButton);
                 js.executeScript("arguments[0].click();", cookieBtn);
+                SessionState.capture(driver);
                 log("✅ Cookies accepted\n");
             }
         } catch (Exception e) {
@@ -718,25 +786,25 @@ public class ProgramsFilterTest {
     }
 
     private boolean isElementPresent(By locator) {
-        try {
-            shortWait.until(ExpectedConditions.presenceOfElementLocated(locator));
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return LocatorRegistry.isPresent(driver, locator);
     }
 
     public void close() {
         if (!sharedDriver && driver != null) {
             log("\n\uD83D\uDD1A Closing browser...");
             driver.quit();
+            ResourceTracker.driverClosed(driver);
         }
+        // Log file is already written - drop the in-memory copy
+        logMessages.clear();
     }
 
     public int getTotalTests() { return totalTests; }
     public int getPassedTests() { return passedTests; }
     public int getFailedTests() { return failedTests; }
+    public int getSkippedTests() { return cases.getSkipped(); }
     public String getTestClassName() { return this.getClass().getSimpleName(); }
+    public WebDriver getDriver() { return driver; }
 
     public static void main(String[] args) {
         ProgramsFilterTest test = new ProgramsFilterTest();
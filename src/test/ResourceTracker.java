@@ -0,0 +1,122 @@
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Resource accounting for long interactive sessions.
+ * Tracks open driver sessions and reports them with JVM heap and disk usage for
+ * the TestRunner menu. Disk usage only counts the runner's own files: growth of
+ * screenshots/ and logs/ since start plus the ChromeDriver profile dirs of the
+ * sessions it opened. It is measured, never cleaned up.
+ */
+public final class ResourceTracker {
+
+    private static final Set<WebDriver> OPEN_DRIVERS = Collections.synchronizedSet(
+            Collections.newSetFromMap(new IdentityHashMap<>()));
+    private static final Path[] OUTPUT_DIRS = {Paths.get("screenshots"), Paths.get("logs")};
+    // ChromeDriver's temp user-data-dir per session; a dir that outlives its session is a leak
+    private static final Set<Path> PROFILE_DIRS = Collections.synchronizedSet(new LinkedHashSet<>());
+    private static final long OUTPUT_BYTES_AT_START = outputBytes();
+
+    private ResourceTracker() {
+    }
+
+    public static void driverOpened(WebDriver driver) {
+        OPEN_DRIVERS.add(driver);
+        Path profile = profileDir(driver);
+        if (profile != null) {
+            PROFILE_DIRS.add(profile);
+        }
+    }
+
+    public static void driverClosed(WebDriver driver) {
+        OPEN_DRIVERS.remove(driver);
+    }
+
+    public static int openDrivers() {
+        return OPEN_DRIVERS.size();
+    }
+
+    /**
+     * Bytes written to screenshots/ and logs/ since this JVM started (negative if files were removed)
+     */
+    public static long outputGrowthBytes() {
+        return outputBytes() - OUTPUT_BYTES_AT_START;
+    }
+
+    /**
+     * Bytes still on disk in the profile dirs of sessions opened by this runner
+     */
+    public static long profileBytes() {
+        long total = 0;
+        synchronized (PROFILE_DIRS) {
+            for (Path dir : PROFILE_DIRS) {
+                total += sizeOf(dir);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * One line for the menu: heap used / max, runner disk usage, open sessions
+     */
+    public static String status() {
+        Runtime runtime = Runtime.getRuntime();
+        long usedMb = (runtime.totalMemory() - runtime.freeMemory()) / 1024 / 1024;
+        long maxMb = runtime.maxMemory() / 1024 / 1024;
+        return String.format("💾 JVM heap %d/%d MB | temp disk +%.1f MB output, %.1f MB Chrome profiles | open browser sessions %d",
+                usedMb, maxMb, outputGrowthBytes() / 1024.0 / 1024.0, profileBytes() / 1024.0 / 1024.0, openDrivers());
+    }
+
+    private static long outputBytes() {
+        long total = 0;
+        for (Path dir : OUTPUT_DIRS) {
+            total += sizeOf(dir);
+        }
+        return total;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Path profileDir(WebDriver driver) {
+        if (!(driver instanceof HasCapabilities)) {
+            return null;
+        }
+        Object chrome = ((HasCapabilities) driver).getCapabilities().getCapability("chrome");
+        if (chrome instanceof Map) {
+            Object dir = ((Map<String, Object>) chrome).get("userDataDir");
+            if (dir != null && !String.valueOf(dir).isEmpty()) {
+                return Paths.get(String.valueOf(dir));
+            }
+        }
+        return null;
+    }
+
+    private static long sizeOf(Path dir) {
+        if (!Files.exists(dir)) {
+            return 0;
+        }
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.filter(Files::isRegularFile).mapToLong(file -> {
+                try {
+                    return Files.size(file);
+                } catch (IOException e) {
+                    // Deleted while counting
+                    return 0;
+                }
+            }).sum();
+        } catch (IOException | RuntimeException e) {
+            // Chrome rewrites its profile while we walk it
+            return 0;
+        }
+    }
+}
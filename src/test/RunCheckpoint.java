@@ -0,0 +1,135 @@
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Checkpoint of the current run in logs/checkpoint.json.
+ * Every finished case (PASS / FAIL) and every finished class (its totals) is
+ * written as soon as it completes. With -Dstudyleo.resume=true the next run
+ * keeps the file: classes that passed completely are not started again, and
+ * inside the other classes cases that already passed are skipped and credited
+ * with the number of tests they counted, so the summary covers the whole
+ * interrupted run. Cases that depend on each other's page state are resumed as
+ * a unit by CaseRunner.
+ */
+public final class RunCheckpoint {
+
+    private static final Path CHECKPOINT_FILE = Paths.get("logs", "checkpoint.json");
+    private static final Json JSON = new Json();
+
+    private static Map<String, Object> cases = new LinkedHashMap<>();
+    private static Map<String, Object> classes = new LinkedHashMap<>();
+    private static String startedAt = "";
+
+    private RunCheckpoint() {
+    }
+
+    public static boolean isResume() {
+        return SuiteConfig.flag("resume");
+    }
+
+    /**
+     * Start of a runner action: load the old checkpoint on resume, otherwise start empty
+     */
+    @SuppressWarnings("unchecked")
+    public static synchronized void begin() {
+        cases = new LinkedHashMap<>();
+        classes = new LinkedHashMap<>();
+        startedAt = LocalDateTime.now().toString();
+        if (!isResume() || !Files.exists(CHECKPOINT_FILE)) {
+            save();
+            return;
+        }
+        try {
+            Map<String, Object> stored = JSON.toType(
+                    Files.readString(CHECKPOINT_FILE, StandardCharsets.UTF_8), Json.MAP_TYPE);
+            cases.putAll((Map<String, Object>) stored.getOrDefault("cases", Map.of()));
+            classes.putAll((Map<String, Object>) stored.getOrDefault("classes", Map.of()));
+            startedAt = String.valueOf(stored.getOrDefault("startedAt", startedAt));
+            System.out.println("♻️ Resuming run from " + startedAt + " (" + cases.size() + " cases checkpointed)");
+        } catch (Exception e) {
+            System.err.println("⚠️ Could not read checkpoint, starting fresh: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Tests a case counted when it passed in the resumed run, -1 = run it again
+     */
+    @SuppressWarnings("unchecked")
+    public static synchronized int passedTests(String className, String caseName) {
+        if (!isResume()) {
+            return -1;
+        }
+        Object entry = cases.get(className + "." + caseName);
+        if ("PASS".equals(entry)) {
+            // Checkpoint written before per-case counts were stored
+            return 1;
+        }
+        if (entry instanceof Map && "PASS".equals(((Map<String, Object>) entry).get("status"))) {
+            return ((Number) ((Map<String, Object>) entry).get("tests")).intValue();
+        }
+        return -1;
+    }
+
+    /**
+     * tests: how many tests the case added to its class total (one case may count several)
+     */
+    public static synchronized void recordCase(String className, String caseName, boolean passed, int tests) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("status", passed ? "PASS" : "FAIL");
+        entry.put("tests", tests);
+        cases.put(className + "." + caseName, entry);
+        save();
+    }
+
+    public static synchronized void recordClass(TestRunner.TestStats stats) {
+        Map<String, Object> totals = new LinkedHashMap<>();
+        totals.put("total", stats.total);
+        totals.put("passed", stats.passed);
+        totals.put("failed", stats.failed);
+        totals.put("skipped", stats.skipped);
+        classes.put(stats.className, totals);
+        save();
+    }
+
+    /**
+     * Stats of a class that already passed completely in the resumed run, or null
+     */
+    @SuppressWarnings("unchecked")
+    public static synchronized TestRunner.TestStats passedClass(String className) {
+        if (!isResume()) {
+            return null;
+        }
+        Map<String, Object> totals = (Map<String, Object>) classes.get(className);
+        if (totals == null || ((Number) totals.get("failed")).intValue() > 0
+                || ((Number) totals.getOrDefault("skipped", 0)).intValue() > 0) {
+            return null;
+        }
+        return new TestRunner.TestStats(className, ((Number) totals.get("total")).intValue(),
+                ((Number) totals.get("passed")).intValue(), 0, 0);
+    }
+
+    private static void save() {
+        Map<String, Object> checkpoint = new LinkedHashMap<>();
+        checkpoint.put("startedAt", startedAt);
+        checkpoint.put("classes", classes);
+        checkpoint.put("cases", cases);
+        try {
+            Files.createDirectories(CHECKPOINT_FILE.getParent());
+            // Write then move, so a crash mid-write never leaves a broken checkpoint
+            Path temp = CHECKPOINT_FILE.resolveSibling("checkpoint.json.tmp");
+            Files.writeString(temp, JSON.toJson(checkpoint), StandardCharsets.UTF_8);
+            Files.move(temp, CHECKPOINT_FILE, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("⚠️ Could not save checkpoint: " + e.getMessage());
+        }
+    }
+}
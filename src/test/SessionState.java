@@ -0,0 +1,219 @@
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cookie-consent / session state snapshot.
+ * Cookies and localStorage are captured once after the banner is accepted,
+ * saved to logs/session-state.json and injected into new sessions over CDP
+ * before their first navigation. A session without state accepts the real
+ * banner once (HomePageTest.testAcceptCookies, acceptCookies() of the other
+ * classes, or dismissBanner() after a direct open) and that click produces
+ * the snapshot.
+ */
+public final class SessionState {
+
+    private static final Path SNAPSHOT_FILE = Paths.get("logs", "session-state.json");
+    private static final Json JSON = new Json();
+    private static final Duration BANNER_TIMEOUT = Duration.ofSeconds(5);
+    private static final String DISMISS_BANNER_SCRIPT =
+            "var b = document.querySelector(arguments[0]);" +
+            "if (b) { b.click(); return true; } return false;";
+    private static final String BANNER_GONE_SCRIPT =
+            "var b = document.querySelector(arguments[0]);" +
+            "return !b || b.offsetParent === null || getComputedStyle(b).visibility === 'hidden';";
+
+    private static Map<String, Object> snapshot;
+    private static boolean snapshotLoaded = false;
+    private static final Set<String> appliedSessions = new HashSet<>();
+
+    private SessionState() {
+    }
+
+    /**
+     * Capture cookies and localStorage of the current page after consent was given.
+     * Waits for the banner to go away first, so the snapshot never holds pre-consent state;
+     * returns false (nothing captured) when it is still showing.
+     */
+    public static synchronized boolean capture(WebDriver driver) {
+        if (!awaitBannerGone(driver)) {
+            System.err.println("⚠️ Cookie banner still showing - session state not captured");
+            return false;
+        }
+        List<Map<String, Object>> cookies = new ArrayList<>();
+        for (Cookie cookie : driver.manage().getCookies()) {
+            cookies.add(cookieToMap(cookie));
+        }
+
+        Map<String, Object> captured = new LinkedHashMap<>();
+        captured.put("origin", ((JavascriptExecutor) driver).executeScript("return location.origin;"));
+        captured.put("capturedAt", System.currentTimeMillis());
+        captured.put("cookies", cookies);
+        captured.put("localStorage", ((JavascriptExecutor) driver)
+                .executeScript("return Object.assign({}, window.localStorage);"));
+
+        snapshot = captured;
+        snapshotLoaded = true;
+        appliedSessions.add(sessionKey(driver));
+
+        try {
+            Files.createDirectories(SNAPSHOT_FILE.getParent());
+            Files.writeString(SNAPSHOT_FILE, JSON.toJson(captured), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            System.err.println("⚠️ Session state save error: " + e.getMessage());
+        }
+        return true;
+    }
+
+    /**
+     * For a loaded page whose session has no consent state yet: click the banner in-page
+     * without waiting for it, and capture the state if it was there.
+     * Returns true when the session carries consent state afterwards.
+     */
+    public static boolean dismissBanner(WebDriver driver) {
+        if (isApplied(driver)) {
+            return true;
+        }
+        Object clicked = ((JavascriptExecutor) driver).executeScript(DISMISS_BANNER_SCRIPT, bannerCss());
+        return Boolean.TRUE.equals(clicked) && capture(driver);
+    }
+
+    private static String bannerCss() {
+        return LocatorRegistry.COOKIE_ACCEPT.getPrimary().toString().replaceFirst("^By\\.cssSelector: ", "");
+    }
+
+    private static boolean awaitBannerGone(WebDriver driver) {
+        String css = bannerCss();
+        try {
+            new WebDriverWait(driver, TimeBudget.clamp(BANNER_TIMEOUT)).until(d -> Boolean.TRUE.equals(
+                    ((JavascriptExecutor) d).executeScript(BANNER_GONE_SCRIPT, css)));
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Inject the snapshot into a session that has not navigated yet.
+     * Returns true when the session already has consent state (injected or captured).
+     */
+    @SuppressWarnings("unchecked")
+    public static synchronized boolean inject(WebDriver driver) {
+        String key = sessionKey(driver);
+        if (appliedSessions.contains(key)) {
+            return true;
+        }
+
+        Map<String, Object> state = loadSnapshot();
+        if (state == null || !CdpSupport.isAvailable(driver)) {
+            return false;
+        }
+
+        try {
+            long nowSeconds = System.currentTimeMillis() / 1000;
+            int set = 0;
+            for (Map<String, Object> cookie : (List<Map<String, Object>>) state.get("cookies")) {
+                Object expires = cookie.get("expires");
+                if (expires instanceof Number && ((Number) expires).longValue() < nowSeconds) {
+                    continue;
+                }
+                CdpSupport.execute(driver, "Network.setCookie", cookie);
+                set++;
+            }
+            if (set == 0) {
+                // Every cookie expired: the banner will show again, so the snapshot is useless
+                System.out.println("🍪 Session snapshot expired, deleting " + SNAPSHOT_FILE);
+                snapshot = null;
+                Files.deleteIfExists(SNAPSHOT_FILE);
+                return false;
+            }
+
+            Map<String, Object> storage = (Map<String, Object>) state.get("localStorage");
+            if (storage != null && !storage.isEmpty()) {
+                Map<String, Object> params = new HashMap<>();
+                params.put("source", localStorageScript((String) state.get("origin"), storage));
+                CdpSupport.execute(driver, "Page.addScriptToEvaluateOnNewDocument", params);
+            }
+        } catch (Exception e) {
+            System.err.println("⚠️ Session state injection failed: " + e.getMessage());
+            return false;
+        }
+
+        appliedSessions.add(key);
+        return true;
+    }
+
+    /**
+     * True when this session already carries the consent state
+     */
+    public static synchronized boolean isApplied(WebDriver driver) {
+        return appliedSessions.contains(sessionKey(driver));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> loadSnapshot() {
+        if (snapshotLoaded) {
+            return snapshot;
+        }
+        snapshotLoaded = true;
+        if (!Files.exists(SNAPSHOT_FILE)) {
+            return null;
+        }
+        try {
+            snapshot = (Map<String, Object>) JSON.toType(
+                    Files.readString(SNAPSHOT_FILE, StandardCharsets.UTF_8), Json.MAP_TYPE);
+        } catch (Exception e) {
+            System.err.println("⚠️ Session state file is unreadable, ignoring: " + e.getMessage());
+            snapshot = null;
+        }
+        return snapshot;
+    }
+
+    private static String localStorageScript(String origin, Map<String, Object> storage) {
+        return "if (location.origin === " + JSON.toJson(origin) + ") {" +
+                " var s = " + JSON.toJson(storage) + ";" +
+                " for (var k in s) { if (localStorage.getItem(k) === null) localStorage.setItem(k, s[k]); }" +
+                "}";
+    }
+
+    private static Map<String, Object> cookieToMap(Cookie cookie) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("name", cookie.getName());
+        map.put("value", cookie.getValue());
+        map.put("domain", cookie.getDomain());
+        map.put("path", cookie.getPath() == null ? "/" : cookie.getPath());
+        map.put("secure", cookie.isSecure());
+        map.put("httpOnly", cookie.isHttpOnly());
+        if (cookie.getExpiry() != null) {
+            map.put("expires", cookie.getExpiry().getTime() / 1000);
+        }
+        if (cookie.getSameSite() != null) {
+            map.put("sameSite", cookie.getSameSite());
+        }
+        return map;
+    }
+
+    private static String sessionKey(WebDriver driver) {
+        if (driver instanceof RemoteWebDriver) {
+            return String.valueOf(((RemoteWebDriver) driver).getSessionId());
+        }
+        return String.valueOf(System.identityHashCode(driver));
+    }
+}
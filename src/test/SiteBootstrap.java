@@ -0,0 +1,33 @@
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+
+/**
+ * Direct page bootstrap: opens a target path without the home page hop.
+ * Consent state comes from the SessionState snapshot, injected before
+ * the first navigation of the session.
+ */
+public final class SiteBootstrap {
+
+    public static final String SITE_URL = "https://studyleo.com/en";
+
+    private SiteBootstrap() {
+    }
+
+    /**
+     * Open SITE_URL + path directly (e.g. "/programs")
+     * Consent SessionState-dən gəlir; snapshot yoxdursa banner gözləmədən bağlanır
+     */
+    public static void openDirect(WebDriver driver, String path) {
+        SessionState.inject(driver);
+        driver.get(SITE_URL + path);
+        waitForPageLoad(driver);
+        SessionState.dismissBanner(driver);
+    }
+
+    private static void waitForPageLoad(WebDriver driver) {
+        new AdaptiveWait(driver, Duration.ofSeconds(10)).until(webDriver -> ((JavascriptExecutor) webDriver)
+                .executeScript("return document.readyState").equals("complete"));
+    }
+}
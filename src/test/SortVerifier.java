@@ -0,0 +1,348 @@
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.text.Collator;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Sort-order verification for Programs and Universities across all result pages.
+ * Every Sort By option is applied in its own browser context (-Dstudyleo.sweepWorkers);
+ * the sort key (price, ranking or name) of every card is read with one script per
+ * page, and pages are walked with the Next button. The check is a single streaming
+ * pass: only the previous key is kept, so the whole catalogue is verified without
+ * holding it in memory. -Dstudyleo.sortMaxPages limits the pages per option (0 = all).
+ */
+public final class SortVerifier {
+
+    private enum Key { PRICE, RANKING, NAME }
+
+    private static final Pattern RANKING = Pattern.compile("(?i)(?:#|rank(?:ing)?\\s*:?\\s*#?)\\s*(\\d{1,5})");
+    private static final Collator NAME_ORDER = Collator.getInstance(Locale.ENGLISH);
+
+    private static final String NEXT_STATE_SCRIPT =
+            "var next = document.querySelector(arguments[0]);" +
+            "if (!next) return document.querySelector(arguments[1]) ? 'broken' : 'missing';" +
+            "var cls = next.className || '';" +
+            "return next.getAttribute('aria-disabled') === 'true' || /disabled|pointer-events-none/.test(cls)" +
+            "  ? 'disabled' : 'enabled';";
+
+    private static final List<Target> TARGETS = List.of(
+            new Target("/programs", "/programs/", LocatorRegistry.PROGRAMS_SORT_BY),
+            new Target("/universities", "/universities/", LocatorRegistry.UNIVERSITIES_SORT_BY)
+    );
+
+    static {
+        NAME_ORDER.setStrength(Collator.SECONDARY);
+    }
+
+    private SortVerifier() {
+    }
+
+    public static void run() {
+        long startTime = System.currentTimeMillis();
+        BrowserContextPool pool = BrowserContextPool.launch(SuiteConfig.intValue("sweepWorkers", 3));
+        ExecutorService executor = Executors.newFixedThreadPool(pool.getMaxContexts());
+        List<Result> results = Collections.synchronizedList(new ArrayList<>());
+        try {
+            Queue<Case> queue = new ConcurrentLinkedQueue<>(listCases(pool));
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < pool.getMaxContexts(); i++) {
+                String owner = "sort-" + (i + 1);
+                futures.add(executor.submit(() -> {
+                    work(pool, owner, queue, results);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (Exception e) {
+                    System.err.println("❌ Sort worker failed: " + e.getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+            pool.close();
+        }
+        printReport(results, (System.currentTimeMillis() - startTime) / 1000);
+    }
+
+    private static List<Case> listCases(BrowserContextPool pool) throws InterruptedException {
+        List<Case> cases = new ArrayList<>();
+        BrowserContextPool.Lease lease = pool.acquire("sort-list");
+        try {
+            WebDriver driver = lease.getDriver();
+            PageActions actions = new PageActions(driver);
+            for (Target target : TARGETS) {
+                try {
+                    SiteBootstrap.openDirect(driver, target.page);
+                    for (String option : DropdownSweep.listOptions(driver, actions, target.sortBy)) {
+                        Key key = keyOf(option);
+                        if (key == null) {
+                            System.out.println("ℹ️ " + target.page + " / " + option + ": no comparable key on the cards - skipped");
+                        } else {
+                            cases.add(new Case(target, option, key, directionOf(option)));
+                        }
+                    }
+                } catch (Exception e) {
+                    System.err.println("⚠️ Could not list sort options on " + target.page + ": " + e.getMessage());
+                }
+            }
+        } finally {
+            pool.release(lease);
+        }
+        return cases;
+    }
+
+    private static void work(BrowserContextPool pool, String owner, Queue<Case> queue, List<Result> results)
+            throws InterruptedException {
+        BrowserContextPool.Lease lease = pool.acquire(owner);
+        try {
+            WebDriver driver = lease.getDriver();
+            PageActions actions = new PageActions(driver);
+            Case c;
+            while ((c = queue.poll()) != null) {
+                Result result = verify(driver, actions, c);
+                results.add(result);
+                System.out.println((result.violations.isEmpty() && result.error == null ? "✅ " : "❌ ")
+                        + c.target.page + " / " + c.option + ": " + result.cards + " cards on " + result.pages + " pages");
+            }
+        } finally {
+            pool.release(lease);
+        }
+    }
+
+    /**
+     * Apply the sort option and stream through every page, comparing each key with the previous one
+     */
+    private static Result verify(WebDriver driver, PageActions actions, Case c) {
+        Result result = new Result(c);
+        try {
+            SiteBootstrap.openDirect(driver, c.target.page);
+            String firstBefore = firstHref(driver, c.target.linkPart);
+            if (!DropdownSweep.selectOption(driver, actions, c.target.sortBy, c.option)) {
+                result.error = "option not found";
+                return result;
+            }
+            // Sorting re-renders the list; the first card changes unless it was already first
+            waitForFirstCardChange(driver, c.target.linkPart, firstBefore, 5);
+
+            int maxPages = SuiteConfig.intValue("sortMaxPages", 0);
+            Object previous = null;
+            int direction = c.direction;
+            while (true) {
+                result.pages++;
+                for (Map<String, Object> card : CatalogueMirror.readCards(driver, c.target.linkPart)) {
+                    result.cards++;
+                    Object key = keyValue(c.key, card);
+                    if (key == null) {
+                        result.withoutKey++;
+                        continue;
+                    }
+                    if (previous != null) {
+                        int order = Integer.signum(compare(previous, key));
+                        if (direction == 0 && order != 0) {
+                            // Direction not given by the option text: the first difference decides
+                            direction = -order;
+                        } else if (order != 0 && order != -direction) {
+                            result.addViolation("page " + result.pages + ": " + previous + " then " + key
+                                    + " (" + card.get("href") + ")");
+                        }
+                    }
+                    previous = key;
+                }
+                if (maxPages > 0 && result.pages >= maxPages || !nextPage(driver, actions, c.target.linkPart)) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            result.error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        }
+        return result;
+    }
+
+    /**
+     * Click Next if it is enabled and wait for the cards to change.
+     * false = last page (Next disabled, or no pagination at all); a Next that cannot be
+     * found among pagination links or a click that does not load a new page throws,
+     * so a broken page is never reported as a complete walk.
+     */
+    static boolean nextPage(WebDriver driver, PageActions actions, String linkPart) {
+        String cssNext = LocatorRegistry.PAGINATION_NEXT.getPrimary().toString().replaceFirst("^By\\.cssSelector: ", "");
+        String cssLinks = LocatorRegistry.PAGINATION_LINKS.getPrimary().toString().replaceFirst("^By\\.cssSelector: ", "");
+        Object state = ((JavascriptExecutor) driver).executeScript(NEXT_STATE_SCRIPT, cssNext, cssLinks);
+        if ("broken".equals(state)) {
+            throw new IllegalStateException("pagination is shown but the Next button was not found");
+        }
+        if (!"enabled".equals(state)) {
+            return false;
+        }
+        String firstBefore = firstHref(driver, linkPart);
+        actions.click(LocatorRegistry.findNow(driver, LocatorRegistry.PAGINATION_NEXT).get(0));
+        if (!waitForFirstCardChange(driver, linkPart, firstBefore, 10)) {
+            throw new IllegalStateException("Next was clicked but the next page did not load");
+        }
+        return true;
+    }
+
+    private static boolean waitForFirstCardChange(WebDriver driver, String linkPart, String firstBefore, int seconds) {
+        try {
+            new AdaptiveWait(driver, Duration.ofSeconds(seconds)).until(d -> {
+                String first = firstHref(d, linkPart);
+                return first != null && !first.equals(firstBefore);
+            });
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static String firstHref(WebDriver driver, String linkPart) {
+        List<Map<String, Object>> cards = CatalogueMirror.readCards(driver, linkPart);
+        return cards.isEmpty() ? null : String.valueOf(cards.get(0).get("href"));
+    }
+
+    // ==================== KEYS ====================
+
+    private static Key keyOf(String option) {
+        String text = option.toLowerCase(Locale.ROOT);
+        if (text.contains("price") || text.contains("tuition") || text.contains("fee")) {
+            return Key.PRICE;
+        }
+        if (text.contains("rank")) {
+            return Key.RANKING;
+        }
+        if (text.contains("name") || text.contains("a-z") || text.contains("z-a") || text.contains("alphabet")) {
+            return Key.NAME;
+        }
+        return null;
+    }
+
+    /**
+     * 1 = ascending, -1 = descending, 0 = not stated in the option text
+     */
+    private static int directionOf(String option) {
+        String text = option.toLowerCase(Locale.ROOT);
+        if (text.contains("highest") || text.contains("high to low") || text.contains("z-a") || text.contains("desc")) {
+            return -1;
+        }
+        if (text.contains("lowest") || text.contains("low to high") || text.contains("a-z") || text.contains("asc")) {
+            return 1;
+        }
+        return 0;
+    }
+
+    private static Object keyValue(Key key, Map<String, Object> card) {
+        String text = String.valueOf(card.get("text"));
+        switch (key) {
+            case PRICE:
+                int price = CatalogueMirror.lowestAmount(text);
+                return price == -1 ? null : price;
+            case RANKING:
+                Matcher matcher = RANKING.matcher(text);
+                return matcher.find() ? Integer.parseInt(matcher.group(1)) : null;
+            default:
+                String name = String.valueOf(card.get("name")).trim();
+                return name.isEmpty() ? null : name;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compare(Object a, Object b) {
+        if (a instanceof String) {
+            return NAME_ORDER.compare(a, b);
+        }
+        return ((Comparable<Object>) a).compareTo(b);
+    }
+
+    // ==================== REPORT ====================
+
+    private static void printReport(List<Result> results, long seconds) {
+        int failed = 0;
+        System.out.println("\n================== SORT ORDER ==================");
+        synchronized (results) {
+            for (Result r : results) {
+                boolean ok = r.violations.isEmpty() && r.error == null;
+                if (!ok) {
+                    failed++;
+                }
+                System.out.printf("%s %-14s %-24s %6d cards | %4d pages | %4d without key\n",
+                        ok ? "✅" : "❌", r.c.target.page, r.c.option, r.cards, r.pages, r.withoutKey);
+                if (r.error != null) {
+                    System.out.println("   ⚠️ " + r.error);
+                }
+                for (String violation : r.violations) {
+                    System.out.println("   ↕️ " + violation);
+                }
+                if (r.violationCount > r.violations.size()) {
+                    System.out.println("   ... and " + (r.violationCount - r.violations.size()) + " more");
+                }
+            }
+        }
+        System.out.println("Sort options verified: " + results.size() + " | failed: " + failed);
+        System.out.println("Duration: " + seconds + " s");
+        System.out.println("================================================");
+    }
+
+    private static final class Target {
+        final String page;
+        final String linkPart;
+        final LocatorRegistry.Locator sortBy;
+
+        Target(String page, String linkPart, LocatorRegistry.Locator sortBy) {
+            this.page = page;
+            this.linkPart = linkPart;
+            this.sortBy = sortBy;
+        }
+    }
+
+    private static final class Case {
+        final Target target;
+        final String option;
+        final Key key;
+        final int direction;
+
+        Case(Target target, String option, Key key, int direction) {
+            this.target = target;
+            this.option = option;
+            this.key = key;
+            this.direction = direction;
+        }
+    }
+
+    private static final class Result {
+        final Case c;
+        final List<String> violations = new ArrayList<>();
+        int violationCount;
+        int cards;
+        int pages;
+        int withoutKey;
+        String error;
+
+        Result(Case c) {
+            this.c = c;
+        }
+
+        // Only the first few are kept, the count covers all
+        void addViolation(String violation) {
+            violationCount++;
+            if (violations.size() < 10) {
+                violations.add(violation);
+            }
+        }
+    }
+}
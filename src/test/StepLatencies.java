@@ -0,0 +1,135 @@
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.TypeToken;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-step wait latencies kept across runs in logs/step-latencies.json.
+ * With -Dstudyleo.adaptiveTimeouts=true a step's timeout becomes
+ * p99 × FACTOR of its recent latencies, clamped to [MIN, fallback × 2].
+ * Until a step has MIN_SAMPLES samples its fixed timeout is used.
+ * Only successful waits are samples; timeouts are counted separately.
+ */
+public final class StepLatencies {
+
+    private static final Path STORE_FILE = Paths.get("logs", "step-latencies.json");
+    private static final Json JSON = new Json();
+    private static final Type STORE_TYPE = new TypeToken<Map<String, List<Long>>>() {
+    }.getType();
+
+    private static final int MAX_SAMPLES = 200;
+    private static final int MIN_SAMPLES = 10;
+    private static final double FACTOR = 3.0;
+    private static final Duration MIN = Duration.ofSeconds(2);
+
+    private static final Map<String, List<Long>> SAMPLES = new ConcurrentHashMap<>();
+    private static final Map<String, AtomicInteger> TIMEOUTS = new ConcurrentHashMap<>();
+    private static final Set<String> LOGGED = ConcurrentHashMap.newKeySet();
+
+    static {
+        load();
+        Runtime.getRuntime().addShutdownHook(new Thread(StepLatencies::save));
+    }
+
+    private StepLatencies() {
+    }
+
+    public static boolean isEnabled() {
+        return SuiteConfig.flag("adaptiveTimeouts");
+    }
+
+    public static void record(String step, long millis) {
+        List<Long> samples = SAMPLES.computeIfAbsent(step, k -> Collections.synchronizedList(new ArrayList<>()));
+        synchronized (samples) {
+            samples.add(millis);
+            if (samples.size() > MAX_SAMPLES) {
+                samples.remove(0);
+            }
+        }
+    }
+
+    /**
+     * A wait of this step ran out; kept out of the samples
+     */
+    public static void recordTimeout(String step) {
+        TIMEOUTS.computeIfAbsent(step, k -> new AtomicInteger()).incrementAndGet();
+    }
+
+    public static int timeouts(String step) {
+        AtomicInteger count = TIMEOUTS.get(step);
+        return count == null ? 0 : count.get();
+    }
+
+    /**
+     * Timeout for the step - learned when enabled and known, otherwise the fallback
+     */
+    public static Duration timeoutFor(String step, Duration fallback) {
+        if (!isEnabled()) {
+            return fallback;
+        }
+        List<Long> samples = SAMPLES.get(step);
+        if (samples == null || samples.size() < MIN_SAMPLES) {
+            return fallback;
+        }
+        List<Long> sorted;
+        synchronized (samples) {
+            sorted = new ArrayList<>(samples);
+        }
+        Collections.sort(sorted);
+        long p99 = sorted.get(Math.min(sorted.size() - 1, (int) Math.ceil(sorted.size() * 0.99) - 1));
+
+        long millis = Math.round(p99 * FACTOR);
+        millis = Math.max(MIN.toMillis(), Math.min(fallback.toMillis() * 2, millis));
+        Duration timeout = Duration.ofMillis(millis);
+
+        if (LOGGED.add(step)) {
+            System.out.printf("⏱️ %s: timeout %.1f s (p99 %.1f s × %.0f, n=%d, %d timeouts, fixed %d s)\n",
+                    step, millis / 1000.0, p99 / 1000.0, FACTOR, sorted.size(), timeouts(step), fallback.getSeconds());
+        }
+        return timeout;
+    }
+
+    private static void load() {
+        if (!Files.exists(STORE_FILE)) {
+            return;
+        }
+        try {
+            Map<String, List<Long>> stored = JSON.toType(
+                    Files.readString(STORE_FILE, StandardCharsets.UTF_8), STORE_TYPE);
+            for (Map.Entry<String, List<Long>> entry : stored.entrySet()) {
+                SAMPLES.put(entry.getKey(), Collections.synchronizedList(new ArrayList<>(entry.getValue())));
+            }
+        } catch (Exception e) {
+            System.err.println("⚠️ Could not read step latencies: " + e.getMessage());
+        }
+    }
+
+    public static synchronized void save() {
+        Map<String, List<Long>> snapshot = new TreeMap<>();
+        for (Map.Entry<String, List<Long>> entry : SAMPLES.entrySet()) {
+            synchronized (entry.getValue()) {
+                snapshot.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+            }
+        }
+        try {
+            Files.createDirectories(STORE_FILE.getParent());
+            Files.writeString(STORE_FILE, JSON.toJson(snapshot), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            System.err.println("⚠️ Could not save step latencies: " + e.getMessage());
+        }
+    }
+}
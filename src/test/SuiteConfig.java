@@ -0,0 +1,38 @@
+/**
+ * Run options shared by TestRunner and all test classes.
+ * Every option is a system property with the "studyleo." prefix, e.g.
+ * mvn compile exec:java -Dexec.mainClass="TestRunner" -Dstudyleo.directNav=true
+ */
+public final class SuiteConfig {
+
+    private static final String PREFIX = "studyleo.";
+
+    private SuiteConfig() {
+    }
+
+    public static boolean flag(String name) {
+        return Boolean.parseBoolean(System.getProperty(PREFIX + name, "false").trim());
+    }
+
+    public static String value(String name, String defaultValue) {
+        String value = System.getProperty(PREFIX + name);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    public static int intValue(String name, int defaultValue) {
+        try {
+            return Integer.parseInt(value(name, String.valueOf(defaultValue)));
+        } catch (NumberFormatException e) {
+            System.err.println("⚠️ Invalid number for " + PREFIX + name + ", using " + defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Open target pages by URL instead of home page → cookies → navigation link.
+     * Only HomePageTest keeps the home page hop, because it tests those links.
+     */
+    public static boolean isDirectNavigation() {
+        return flag("directNav");
+    }
+}
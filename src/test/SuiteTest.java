@@ -0,0 +1,29 @@
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Common shape of the test classes, so TestRunner can drive them uniformly
+ */
+public interface SuiteTest {
+
+    void run();
+
+    void close();
+
+    int getTotalTests();
+
+    int getPassedTests();
+
+    int getFailedTests();
+
+    /**
+     * Cases refused by the circuit breaker or the time budget
+     */
+    int getSkippedTests();
+
+    String getTestClassName();
+
+    /**
+     * Current session - differs from the one passed in if the class recycled it
+     */
+    WebDriver getDriver();
+}
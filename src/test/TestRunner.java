@@ -5,6 +5,11 @@ import org.openqa.selenium.chrome.ChromeOptions;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 
 public class TestRunner {
 
@@ -16,6 +21,11 @@ public class TestRunner {
         while (true) {
             printMenu();
             String choice = scanner.nextLine().trim().toUpperCase();
+            TimeBudget.startSuite();
+            CircuitBreaker.reset();
+            if (choice.length() == 1 && "12345ASP".contains(choice)) {
+                RunCheckpoint.begin();
+            }
 
             switch (choice) {
                 case "1":
@@ -39,6 +49,48 @@ public class TestRunner {
                 case "S":
                     runSelectedTests();
                     break;
+                case "P":
+                    runAllTestsInContexts();
+                    break;
+                case "L":
+                    runLocatorBenchmark();
+                    break;
+                case "D":
+                    System.out.println("\n🧪 Sweeping every dropdown option...\n");
+                    DropdownSweep.run();
+                    break;
+                case "X":
+                    System.out.println("\n🔀 Exploring Programs filter combinations...\n");
+                    FilterExplorer.run();
+                    break;
+                case "M":
+                    System.out.println("\n🗂️ Crawling the programs catalogue mirror...\n");
+                    CatalogueMirror.crawl();
+                    break;
+                case "R":
+                    System.out.println("\n🔄 Refreshing the programs catalogue mirror...\n");
+                    CatalogueMirror.refresh();
+                    break;
+                case "O":
+                    System.out.println("\n↕️ Verifying sort order across all result pages...\n");
+                    SortVerifier.run();
+                    break;
+                case "G":
+                    System.out.println("\n📑 Walking every page of Blogs and Visa Support...\n");
+                    PaginationWalker.run();
+                    break;
+                case "K":
+                    System.out.println("\n🔗 Checking every detail link over HTTP...\n");
+                    LinkChecker.run();
+                    break;
+                case "H":
+                    System.out.println("\n🧾 Checking detail-page templates over HTTP (no browser)...\n");
+                    DetailTemplateCheck.run();
+                    break;
+                case "B":
+                    System.out.println("\n🔎 Checking blog search against the local blog index...\n");
+                    BlogSearchOracle.run();
+                    break;
                 case "Q":
                     System.out.println("\n👋 Goodbye!");
                     scanner.close();
@@ -47,6 +99,7 @@ public class TestRunner {
                 default:
                     System.out.println("\n❌ Invalid choice. Please try again.");
             }
+            TimeBudget.printReport();
 
             System.out.println("\n" + "═".repeat(70));
             System.out.println("Press ENTER to continue...");
@@ -73,8 +126,20 @@ public class TestRunner {
         System.out.println("  " + "─".repeat(35));
         System.out.println("  [A] ▶️  Run ALL tests");
         System.out.println("  [S] ☑️  Select multiple tests");
+        System.out.println("  [P] 🧩 Run ALL tests in isolated browser contexts");
+        System.out.println("  [L] ⏱️  Benchmark registered locators");
+        System.out.println("  [D] 🧪 Sweep every dropdown option (Programs, Universities)");
+        System.out.println("  [X] 🔀 Explore Programs filter combinations");
+        System.out.println("  [M] 🗂️ Crawl programs catalogue mirror (filter oracle)");
+        System.out.println("  [R] 🔄 Refresh catalogue mirror (changed pages only)");
+        System.out.println("  [O] ↕️ Verify sort order across all pages (Programs, Universities)");
+        System.out.println("  [G] 📑 Walk pagination (Blogs, Visa Support)");
+        System.out.println("  [K] 🔗 Check all detail links (blogs, countries, universities, programs)");
+        System.out.println("  [H] 🧾 Detail-page template check over HTTP (no browser)");
+        System.out.println("  [B] 🔎 Blog search precision / recall against a local index");
         System.out.println("  [Q] 🚪 Quit");
         System.out.println("═".repeat(70));
+        System.out.println(ResourceTracker.status());
         System.out.print("Enter your choice: ");
     }
 
@@ -136,13 +201,42 @@ public class TestRunner {
     // Helper class for test stats
     static class TestStats {
         String className;
-        int total, passed, failed;
-        TestStats(String className, int total, int passed, int failed) {
+        int total, passed, failed, skipped;
+        TestStats(String className, int total, int passed, int failed, int skipped) {
             this.className = className;
             this.total = total;
             this.passed = passed;
             this.failed = failed;
+            this.skipped = skipped;
         }
+
+        static TestStats of(SuiteTest test) {
+            return new TestStats(test.getTestClassName(), test.getTotalTests(),
+                    test.getPassedTests(), test.getFailedTests(), test.getSkippedTests());
+        }
+    }
+
+    // Test class name + factory that builds it on a shared driver
+    static class SuiteEntry {
+        final String name;
+        final Function<WebDriver, SuiteTest> factory;
+        SuiteEntry(String name, Function<WebDriver, SuiteTest> factory) {
+            this.name = name;
+            this.factory = factory;
+        }
+    }
+
+    /**
+     * Test classes in run order
+     */
+    private static List<SuiteEntry> suiteEntries() {
+        return List.of(
+                new SuiteEntry("HomePageTest", driver -> new HomePageTest(driver, true)),
+                new SuiteEntry("UniversitiesTest", driver -> new UniversitiesTest(driver, true)),
+                new SuiteEntry("ProgramsFilterTest", driver -> new ProgramsFilterTest(driver, true)),
+                new SuiteEntry("BlogsTest", driver -> new BlogsTest(driver, true)),
+                new SuiteEntry("VisaSupportTest", driver -> new VisaSupportTest(driver, true))
+        );
     }
 
     private static void runAllTests() {
@@ -159,85 +253,152 @@ public class TestRunner {
         options.addArguments("--disable-popup-blocking");
         options.addArguments("--disable-blink-features=AutomationControlled");
         WebDriver sharedDriver = new ChromeDriver(options);
+        ResourceTracker.driverOpened(sharedDriver);
 
         try {
-            HomePageTest homePageTest = new HomePageTest(sharedDriver, true);
-            homePageTest.run();
-            homePageTest.close();
-            allStats.add(new TestStats(
-                homePageTest.getTestClassName(),
-                homePageTest.getTotalTests(),
-                homePageTest.getPassedTests(),
-                homePageTest.getFailedTests()
-            ));
-
-            UniversitiesTest universitiesTest = new UniversitiesTest(sharedDriver, true);
-            universitiesTest.run();
-            universitiesTest.close();
-            allStats.add(new TestStats(
-                universitiesTest.getTestClassName(),
-                universitiesTest.getTotalTests(),
-                universitiesTest.getPassedTests(),
-                universitiesTest.getFailedTests()
-            ));
-
-            ProgramsFilterTest programsFilterTest = new ProgramsFilterTest(sharedDriver, true);
-            programsFilterTest.run();
-            programsFilterTest.close();
-            allStats.add(new TestStats(
-                programsFilterTest.getTestClassName(),
-                programsFilterTest.getTotalTests(),
-                programsFilterTest.getPassedTests(),
-                programsFilterTest.getFailedTests()
-            ));
-
-            BlogsTest blogsTest = new BlogsTest(sharedDriver, true);
-            blogsTest.run();
-            blogsTest.close();
-            allStats.add(new TestStats(
-                blogsTest.getTestClassName(),
-                blogsTest.getTotalTests(),
-                blogsTest.getPassedTests(),
-                blogsTest.getFailedTests()
-            ));
-
-            VisaSupportTest visaSupportTest = new VisaSupportTest(sharedDriver, true);
-            visaSupportTest.run();
-            visaSupportTest.close();
-            allStats.add(new TestStats(
-                visaSupportTest.getTestClassName(),
-                visaSupportTest.getTotalTests(),
-                visaSupportTest.getPassedTests(),
-                visaSupportTest.getFailedTests()
-            ));
+            List<SuiteEntry> entries = suiteEntries();
+            for (int i = 0; i < entries.size(); i++) {
+                SuiteEntry entry = entries.get(i);
+                TestStats checkpointed = RunCheckpoint.passedClass(entry.name);
+                if (checkpointed != null) {
+                    System.out.println("⏩ " + entry.name + " passed in the checkpointed run, skipping");
+                    allStats.add(checkpointed);
+                    continue;
+                }
+                if (!TimeBudget.enterClass(entry.name, entries.size() - i)) {
+                    continue;
+                }
+                SuiteTest test = entry.factory.apply(sharedDriver);
+                test.run();
+                test.close();
+                // Later classes continue on the recycled session, if there was one
+                sharedDriver = test.getDriver();
+                TestStats stats = TestStats.of(test);
+                RunCheckpoint.recordClass(stats);
+                allStats.add(stats);
+            }
         } catch (Exception e) {
             System.err.println("\u274c One or more tests failed: " + e.getMessage());
             e.printStackTrace();
         } finally {
             System.out.println("\n\uD83D\uDD1A Closing shared browser...");
             sharedDriver.quit();
+            ResourceTracker.driverClosed(sharedDriver);
         }
 
         long endTime = System.currentTimeMillis();
         long duration = (endTime - startTime) / 1000;
 
         printGlobalSummary(allStats);
+        LocatorHealer.printReport();
+        CircuitBreaker.printStatus();
+        BrowserHealth.printReport();
 
         System.out.println("\n" + "═".repeat(70));
         System.out.println("   ▶️ Total Duration: " + duration + " seconds");
     }
 
+    /**
+     * Run every test class in its own browser context of one Chrome process.
+     * Number of parallel contexts: -Dstudyleo.contexts (default 3)
+     */
+    private static void runAllTestsInContexts() {
+        int maxContexts = SuiteConfig.intValue("contexts", 3);
+        System.out.println("\n🧩 Running ALL tests in isolated browser contexts (max " + maxContexts + ")...\n");
+        System.out.println("═".repeat(70));
+
+        long startTime = System.currentTimeMillis();
+        List<TestStats> allStats = new ArrayList<>();
+        BrowserContextPool pool = BrowserContextPool.launch(maxContexts);
+        ExecutorService workers = Executors.newFixedThreadPool(pool.getMaxContexts());
+
+        try {
+            List<Future<TestStats>> results = new ArrayList<>();
+            for (SuiteEntry entry : suiteEntries()) {
+                results.add(workers.submit(() -> {
+                    TestStats checkpointed = RunCheckpoint.passedClass(entry.name);
+                    if (checkpointed != null) {
+                        return checkpointed;
+                    }
+                    // Contexts run side by side, so each may use all that is left
+                    if (!TimeBudget.enterClass(entry.name, 1)) {
+                        return new TestStats(entry.name, 0, 0, 0, 0);
+                    }
+                    BrowserContextPool.Lease lease = pool.acquire(entry.name);
+                    try {
+                        // HomePageTest must see the real cookie banner
+                        if (!"HomePageTest".equals(entry.name)) {
+                            SessionState.inject(lease.getDriver());
+                        }
+                        SuiteTest test = entry.factory.apply(lease.getDriver());
+                        test.run();
+                        test.close();
+                        TestStats stats = TestStats.of(test);
+                        RunCheckpoint.recordClass(stats);
+                        return stats;
+                    } finally {
+                        pool.release(lease);
+                    }
+                }));
+            }
+            for (Future<TestStats> result : results) {
+                try {
+                    allStats.add(result.get());
+                } catch (ExecutionException e) {
+                    System.err.println("❌ Test class failed in its context: " + e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            workers.shutdownNow();
+            pool.printReport();
+            System.out.println("\n\uD83D\uDD1A Closing shared browser...");
+            pool.close();
+        }
+
+        long duration = (System.currentTimeMillis() - startTime) / 1000;
+        printGlobalSummary(allStats);
+        LocatorHealer.printReport();
+        CircuitBreaker.printStatus();
+        BrowserHealth.printReport();
+
+        System.out.println("\n" + "═".repeat(70));
+        System.out.println("   ▶️ Total Duration: " + duration + " seconds");
+    }
+
+    /**
+     * Time every registered locator and save the promoted candidates to logs/
+     */
+    private static void runLocatorBenchmark() {
+        System.out.println("\n⏱️ Benchmarking locators...\n");
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--start-maximized");
+        options.addArguments("--disable-notifications");
+        options.addArguments("--disable-blink-features=AutomationControlled");
+        WebDriver driver = new ChromeDriver(options);
+        ResourceTracker.driverOpened(driver);
+        try {
+            LocatorBenchmark.run(driver);
+        } catch (Exception e) {
+            System.err.println("❌ Locator benchmark failed: " + e.getMessage());
+        } finally {
+            driver.quit();
+            ResourceTracker.driverClosed(driver);
+        }
+    }
+
     private static void printGlobalSummary(List<TestStats> statsList) {
-        int total = 0, passed = 0, failed = 0;
-        System.out.println("\n================== TEST RESULTS SUMMARY ==================");
-        System.out.printf("%-20s %7s | %7s | %7s\n", "TestClass", "Total", "Passed", "Failed");
+        int total = 0, passed = 0, failed = 0, skipped = 0;
+        System.out.println("\n======================== TEST RESULTS SUMMARY ========================");
+        System.out.printf("%-20s %7s | %7s | %7s | %7s\n", "TestClass", "Total", "Passed", "Failed", "Skipped");
         for (TestStats s : statsList) {
-            System.out.printf("%-20s %7d | %7d | %7d\n", s.className, s.total, s.passed, s.failed);
-            total += s.total; passed += s.passed; failed += s.failed;
+            System.out.printf("%-20s %7d | %7d | %7d | %7d\n", s.className, s.total, s.passed, s.failed, s.skipped);
+            total += s.total; passed += s.passed; failed += s.failed; skipped += s.skipped;
         }
-        System.out.println("----------------------------------------------------------");
-        System.out.printf("%-20s %7d | %7d | %7d\n", "TOTAL", total, passed, failed);
-        System.out.println("==========================================================");
+        System.out.println("----------------------------------------------------------------------");
+        System.out.printf("%-20s %7d | %7d | %7d | %7d\n", "TOTAL", total, passed, failed, skipped);
+        System.out.println("======================================================================");
     }
 
     private static void runSelectedTests() {
@@ -247,7 +408,11 @@ public class TestRunner {
 
         String[] selections = input.split(",");
 
-        for (String selection : selections) {
+        for (int i = 0; i < selections.length; i++) {
+            String selection = selections[i];
+            if (!TimeBudget.enterClass("Test " + selection.trim(), selections.length - i)) {
+                continue;
+            }
             switch (selection.trim()) {
                 case "1":
                     runHomePageTest();
@@ -0,0 +1,103 @@
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Suite deadline (-Dstudyleo.deadlineSeconds, 0 = none).
+ * The runner splits what is left of the deadline across the remaining test
+ * classes; waits and sleeps are clamped to the current class slice, and a case
+ * that starts with less than MIN_CASE_MILLIS left is skipped and reported.
+ * Class slices are per thread, so parallel context runs each get the full remainder.
+ */
+public final class TimeBudget {
+
+    private static final long MIN_CASE_MILLIS = 3000;
+
+    private static volatile long suiteDeadline;
+    private static final ThreadLocal<Long> CLASS_DEADLINE = new ThreadLocal<>();
+    private static final List<String> SKIPPED = Collections.synchronizedList(new ArrayList<>());
+
+    private TimeBudget() {
+    }
+
+    public static boolean isEnabled() {
+        return suiteDeadline > 0;
+    }
+
+    /**
+     * Start the deadline clock for one runner action
+     */
+    public static void startSuite() {
+        int seconds = SuiteConfig.intValue("deadlineSeconds", 0);
+        suiteDeadline = seconds > 0 ? System.currentTimeMillis() + seconds * 1000L : 0;
+        SKIPPED.clear();
+        CLASS_DEADLINE.remove();
+        if (seconds > 0) {
+            System.out.println("⏳ Suite deadline: " + seconds + " seconds");
+        }
+    }
+
+    /**
+     * Give the next class an equal share of what is left. false = nothing left, skip it.
+     */
+    public static boolean enterClass(String className, int classesLeft) {
+        if (!isEnabled()) {
+            return true;
+        }
+        long remaining = suiteDeadline - System.currentTimeMillis();
+        if (remaining < MIN_CASE_MILLIS) {
+            SKIPPED.add(className + " (whole class)");
+            return false;
+        }
+        long slice = remaining / Math.max(1, classesLeft);
+        CLASS_DEADLINE.set(System.currentTimeMillis() + slice);
+        System.out.println("⏳ " + className + ": " + slice / 1000 + " s of " + remaining / 1000 + " s left");
+        return true;
+    }
+
+    public static long remainingMillis() {
+        if (!isEnabled()) {
+            return Long.MAX_VALUE;
+        }
+        Long classDeadline = CLASS_DEADLINE.get();
+        long deadline = classDeadline != null ? Math.min(classDeadline, suiteDeadline) : suiteDeadline;
+        return Math.max(0, deadline - System.currentTimeMillis());
+    }
+
+    /**
+     * Check before a case; records it as skipped when there is no budget left
+     */
+    public static boolean hasBudgetFor(String caseName) {
+        if (remainingMillis() >= MIN_CASE_MILLIS) {
+            return true;
+        }
+        SKIPPED.add(caseName);
+        return false;
+    }
+
+    public static Duration clamp(Duration timeout) {
+        return Duration.ofMillis(clampMillis(timeout.toMillis()));
+    }
+
+    public static long clampMillis(long millis) {
+        return Math.min(millis, remainingMillis());
+    }
+
+    public static void printReport() {
+        if (!isEnabled()) {
+            return;
+        }
+        long over = System.currentTimeMillis() - suiteDeadline;
+        System.out.println("\n⏳ Deadline " + (over > 0 ? "exceeded by " + over / 1000 + " s" : "met, "
+                + (-over / 1000) + " s to spare"));
+        synchronized (SKIPPED) {
+            if (!SKIPPED.isEmpty()) {
+                System.out.println("⏭️ Skipped for lack of budget:");
+                for (String name : SKIPPED) {
+                    System.out.println("   - " + name);
+                }
+            }
+        }
+    }
+}
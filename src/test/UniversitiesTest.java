@@ -10,10 +10,8 @@ import io.github.bonigarcia.wdm.WebDriverManager;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.TimeoutException;
-import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.IOException;
@@ -24,12 +22,14 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 
-public class UniversitiesTest {
+public class UniversitiesTest implements SuiteTest {
 
     private WebDriver driver;
     private WebDriverWait wait;
     private WebDriverWait shortWait;
     private JavascriptExecutor js;
+    private PageActions actions;
+    private AdaptiveWait resultWait;
 
     private static final String SITE_URL = "https://studyleo.com/en";
 
@@ -42,26 +42,31 @@ public class UniversitiesTest {
     private String screenshotFolder;
 
     // Locators
-    private By acceptCookiesButton = By.cssSelector("button[data-testid='cookie-banner-accept-button']");
-    private By universitiesLink = By.cssSelector("[data-slot='navigation-menu-link'][href='/en/universities']");
+    private By acceptCookiesButton = LocatorRegistry.COOKIE_ACCEPT;
+    private By universitiesLink = LocatorRegistry.NAV_UNIVERSITIES;
 
     // Filter locators
-    private By resultCounter = By.cssSelector("span[aria-live='polite']");
-    private By searchBox = By.cssSelector("input[data-slot='input'][aria-label='Search Universities']");
-    private By hasQsRankingBtn = By.id("has-scholarships");
-    private By hasDormitoryBtn = By.id("has-dormitory");
-    private By canApplyBtn = By.id("can-apply");
-    private By citiesDropdown = By.id("cities");
-    private By facultiesDropdown = By.id("faculties");
-    private By programsDropdown = By.id("programs");
-    private By degreeTypesDropdown = By.id("degree-types");
-    private By sortByDropdown = By.cssSelector("button[aria-label='Sort By']");
-    private By dropdownOptions = By.cssSelector("div[data-slot='command-item'], [role='option']");
+    private By resultCounter = LocatorRegistry.UNIVERSITIES_RESULT_COUNTER;
+    private By searchBox = LocatorRegistry.UNIVERSITIES_SEARCH_BOX;
+    private By hasQsRankingBtn = LocatorRegistry.UNIVERSITIES_HAS_QS_RANKING;
+    private By hasDormitoryBtn = LocatorRegistry.UNIVERSITIES_HAS_DORMITORY;
+    private By canApplyBtn = LocatorRegistry.UNIVERSITIES_CAN_APPLY;
+    private By citiesDropdown = LocatorRegistry.UNIVERSITIES_CITIES;
+    private By facultiesDropdown = LocatorRegistry.UNIVERSITIES_FACULTIES;
+    private By programsDropdown = LocatorRegistry.UNIVERSITIES_PROGRAMS;
+    private By degreeTypesDropdown = LocatorRegistry.UNIVERSITIES_DEGREE_TYPES;
+    private By sortByDropdown = LocatorRegistry.UNIVERSITIES_SORT_BY;
+    private By dropdownOptions = LocatorRegistry.DROPDOWN_OPTIONS;
 
     // Test statistics
     private int totalFilters = 0;
     private int passedFilters = 0;
     private int failedFilters = 0;
+    private final CaseRunner cases = new CaseRunner(this, (total, passed, failed) -> {
+        totalFilters += total;
+        passedFilters += passed;
+        failedFilters += failed;
+    }, this::log, this::logError, this::recycleDriver);
     private int screenshotCount = 0;
 
     private boolean sharedDriver = false;
@@ -76,12 +81,13 @@ public class UniversitiesTest {
         this.sharedDriver = sharedDriver;
         if (driver != null && sharedDriver) {
             this.driver = driver;
-            this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-            this.shortWait = new WebDriverWait(driver, Duration.ofSeconds(5));
+            this.wait = new AdaptiveWait(driver, Duration.ofSeconds(10));
+            this.shortWait = new AdaptiveWait(driver, Duration.ofSeconds(5));
             this.js = (JavascriptExecutor) driver;
         } else {
             initializeDriver();
         }
+        this.actions = new PageActions(this.driver);
         initializeLog();
     }
 
@@ -94,11 +100,13 @@ public class UniversitiesTest {
         options.addArguments("--disable-blink-features=AutomationControlled");
 
         driver = new ChromeDriver(options);
+        ResourceTracker.driverOpened(driver);
+        SessionState.inject(driver);
         driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(10));
-        driver.manage().timeouts().implicitlyWait(Duration.ofMillis(500));
+        driver.manage().timeouts().implicitlyWait(LocatorRegistry.implicitWait());
 
-        wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        shortWait = new WebDriverWait(driver, Duration.ofSeconds(5));
+        wait = new AdaptiveWait(driver, Duration.ofSeconds(10));
+        shortWait = new AdaptiveWait(driver, Duration.ofSeconds(5));
         js = (JavascriptExecutor) driver;
     }
 
@@ -146,6 +154,7 @@ public class UniversitiesTest {
     }
 
     private void logError(String message) {
+        cases.observe(message);
         String errorMsg = "❌ " + message;
         System.err.println(errorMsg);
         logMessages.add(errorMsg);
@@ -154,13 +163,14 @@ public class UniversitiesTest {
     private String takeScreenshot(String fileName) {
         try {
             TakesScreenshot screenshot = (TakesScreenshot) driver;
-            File sourceFile = screenshot.getScreenshotAs(OutputType.FILE);
+            // BYTES instead of FILE: no Selenium temp file left behind
+            byte[] png = screenshot.getScreenshotAs(OutputType.BYTES);
 
             String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("HHmmss"));
             String screenshotName = fileName + "_" + timestamp + ".png";
             String destinationPath = screenshotFolder + "/" + screenshotName;
 
-            Files.copy(sourceFile.toPath(), Paths.get(destinationPath), StandardCopyOption.REPLACE_EXISTING);
+            Files.write(Paths.get(destinationPath), png);
 
             screenshotCount++;
             log("📸 Screenshot saved: " + destinationPath);
@@ -175,7 +185,7 @@ public class UniversitiesTest {
 
     private void sleep(int milliseconds) {
         try {
-            Thread.sleep(milliseconds);
+            Thread.sleep(TimeBudget.clampMillis(milliseconds));
         } catch (InterruptedException e) {
             e.printStackTrace();
         }
@@ -200,9 +210,7 @@ public class UniversitiesTest {
      */
     private int getResultCount() {
         try {
-            WebElement counter = wait.until(
-                    ExpectedConditions.visibilityOfElementLocated(resultCounter)
-            );
+            WebElement counter = LocatorRegistry.await(driver, resultCounter);
 
             String text = counter.getText().trim();
 
@@ -226,15 +234,19 @@ public class UniversitiesTest {
      * Polls every 500ms until count changes or timeout
      */
     private boolean waitForResultChange(int previousCount, int timeoutSeconds) {
+        if (resultWait == null) {
+            resultWait = new AdaptiveWait(driver, Duration.ofSeconds(timeoutSeconds));
+        }
+        resultWait.withFallback(Duration.ofSeconds(timeoutSeconds));
         try {
-            WebDriverWait tempWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-            tempWait.until(driver -> {
+            resultWait.until(driver -> {
                 int current = getResultCount();
                 return current != -1 && current != previousCount;
             });
             return true;
         } catch (TimeoutException e) {
-            log("   ⚠️ Result count did not change within " + timeoutSeconds + " seconds");
+            log("   ⚠️ Result count did not change within "
+                    + resultWait.currentTimeout().toMillis() / 1000.0 + " seconds");
             return false;
         }
     }
@@ -259,9 +271,7 @@ public class UniversitiesTest {
     private boolean selectFirstDropdownOption(By dropdownLocator, String dropdownName) {
         try {
             WebElement dropdown = wait.until(ExpectedConditions.elementToBeClickable(dropdownLocator));
-            js.executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", dropdown);
-            sleep(300);
-            js.executeScript("arguments[0].click();", dropdown);
+            actions.click(dropdown);
             sleep(500);
 
             wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(dropdownOptions));
@@ -507,16 +517,39 @@ public class UniversitiesTest {
         }
     }
 
+    /**
+     * Replace an unhealthy browser session and reopen the page under test
+     */
+    private void recycleDriver(String reason) {
+        log("♻️ Browser unhealthy (" + reason + ") - recycling session");
+        driver = BrowserHealth.recycle(driver, getTestClassName(), reason, true);
+        wait = new AdaptiveWait(driver, Duration.ofSeconds(10));
+        shortWait = new AdaptiveWait(driver, Duration.ofSeconds(5));
+        js = (JavascriptExecutor) driver;
+        actions = new PageActions(driver);
+        resultWait = null;
+        openUniversitiesPageDirect();
+    }
+
     public void run() {
         try {
+            if (CircuitBreaker.isOpen()) {
+                logError("SKIPPED " + getTestClassName() + " - " + CircuitBreaker.getReason());
+                return;
+            }
+
             log("\n" + "█".repeat(70));
             log("█  🚀 STARTING UNIVERSITIES FILTER TESTING" + " ".repeat(27) + "█");
             log("█".repeat(70) + "\n");
 
-            openWebsite();
-            acceptCookies();
-            clickUniversitiesLink();
-            sleep(1000);
+            if (SuiteConfig.isDirectNavigation()) {
+                openUniversitiesPageDirect();
+            } else {
+                openWebsite();
+                acceptCookies();
+                clickUniversitiesLink();
+                sleep(1000);
+            }
 
             int initialCount = getResultCount();
             log("\n📊 Universities page loaded with " + initialCount + " results\n");
@@ -526,15 +559,15 @@ public class UniversitiesTest {
                 return;
             }
 
-            testSearchBox();
-            testButtonFilter("Has QS Ranking", hasQsRankingBtn, true);
-            testButtonFilter("Has Dormitory", hasDormitoryBtn, false);
-            testButtonFilter("Can Apply", canApplyBtn, false);
-            testDropdown("Cities", citiesDropdown);
-            testDropdown("Faculties", facultiesDropdown);
-            testDropdown("Programs", programsDropdown);
-            testDropdown("Degree Types", degreeTypesDropdown);
-            testSortBy();
+            cases.run("testSearchBox", this::testSearchBox);
+            cases.run("testButtonFilter (Has QS Ranking)", () -> testButtonFilter("Has QS Ranking", hasQsRankingBtn, true));
+            cases.run("testButtonFilter (Has Dormitory)", () -> testButtonFilter("Has Dormitory", hasDormitoryBtn, false));
+            cases.run("testButtonFilter (Can Apply)", () -> testButtonFilter("Can Apply", canApplyBtn, false));
+            cases.run("testDropdown (Cities)", () -> testDropdown("Cities", citiesDropdown));
+            cases.run("testDropdown (Faculties)", () -> testDropdown("Faculties", facultiesDropdown));
+            cases.run("testDropdown (Programs)", () -> testDropdown("Programs", programsDropdown));
+            cases.run("testDropdown (Degree Types)", () -> testDropdown("Degree Types", degreeTypesDropdown));
+            cases.run("testSortBy", this::testSortBy);
 
             printSummary();
 
@@ -553,6 +586,7 @@ public class UniversitiesTest {
         log("   🧪 Total Filters Tested: " + totalFilters);
         log("   ✅ Passed: " + passedFilters);
         log("   ❌ Failed: " + failedFilters);
+        log("   ⏭️ Skipped: " + cases.getSkipped());
         log("   📸 Screenshots: " + screenshotCount);
         log("");
 
@@ -576,11 +610,22 @@ public class UniversitiesTest {
         log("✅ Website opened\n");
     }
 
+    private void openUniversitiesPageDirect() {
+        log("🌐 Opening directly: " + SITE_URL + "/universities");
+        SiteBootstrap.openDirect(driver, "/universities");
+        log("✅ Universities page opened\n");
+    }
+
     private void acceptCookies() {
+        if (SessionState.isApplied(driver)) {
+            log("🍪 Cookie consent restored from session snapshot\n");
+            return;
+        }
         log("🍪 Accepting cookies...");
         try {
             if (isElementPresent(acceptCookiesButton)) {
                 clickElement(acceptCookiesButton);
+                SessionState.capture(driver);
                 log("✅ Cookies accepted\n");
             }
         } catch (Exception e) {
@@ -601,12 +646,7 @@ public class UniversitiesTest {
     }
 
     private boolean isElementPresent(By locator) {
-        try {
-            wait.until(ExpectedConditions.presenceOfElementLocated(locator));
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return LocatorRegistry.isPresent(driver, locator);
     }
 
     private void clickElement(By locator) {
@@ -623,13 +663,18 @@ public class UniversitiesTest {
         if (!sharedDriver && driver != null) {
             log("\n\uD83D\uDD1A Closing browser...");
             driver.quit();
+            ResourceTracker.driverClosed(driver);
         }
+        // Log file is already written - drop the in-memory copy
+        logMessages.clear();
     }
 
     public int getTotalTests() { return totalFilters; }
     public int getPassedTests() { return passedFilters; }
     public int getFailedTests() { return failedFilters; }
+    public int getSkippedTests() { return cases.getSkipped(); }
     public String getTestClassName() { return this.getClass().getSimpleName(); }
+    public WebDriver getDriver() { return driver; }
 
     public static void main(String[] args) {
         UniversitiesTest test = new UniversitiesTest();
@@ -0,0 +1,113 @@
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Virtual time via CDP Emulation.setVirtualTimePolicy.
+ * advance() grants the page a time budget and returns as soon as the page clock
+ * has moved that far, so debounces, animations and countdowns complete in
+ * milliseconds of real time. Network fetches pause the virtual clock
+ * (pauseIfNetworkFetchesPending), so responses are never skipped over.
+ * Each call runs pause → advance by the budget → running again, so between calls
+ * timers and CSS animations keep going and a shared tab stays usable for the
+ * classes that run after HomePageTest.
+ */
+public final class VirtualClock {
+
+    private static final long REAL_TIMEOUT_MILLIS = 15000;
+    private static final Pattern DIGITS = Pattern.compile("\\d+");
+
+    private VirtualClock() {
+    }
+
+    public static boolean isEnabled() {
+        return SuiteConfig.flag("virtualTime");
+    }
+
+    /**
+     * Move page time forward by millis. Returns the real time it took.
+     */
+    public static long advance(WebDriver driver, long millis) {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        long realStart = System.currentTimeMillis();
+        setPolicy(driver, "pause", -1);
+        try {
+            double start = pageNow(js);
+            setPolicy(driver, "pauseIfNetworkFetchesPending", millis);
+            if (!awaitPageTime(js, start, millis, realStart)) {
+                System.err.println("⚠️ Virtual time budget of " + millis + " ms did not expire in time");
+            }
+            return System.currentTimeMillis() - realStart;
+        } finally {
+            // No budget = the clock keeps running, as it did before the call
+            setPolicy(driver, "pauseIfNetworkFetchesPending", -1);
+        }
+    }
+
+    private static void setPolicy(WebDriver driver, String policy, long budget) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("policy", policy);
+        if (budget >= 0) {
+            params.put("budget", budget);
+        }
+        CdpSupport.execute(driver, "Emulation.setVirtualTimePolicy", params);
+    }
+
+    private static boolean awaitPageTime(JavascriptExecutor js, double start, long millis, long realStart) {
+        while (System.currentTimeMillis() - realStart < REAL_TIMEOUT_MILLIS) {
+            double current;
+            try {
+                current = pageNow(js);
+            } catch (Exception e) {
+                // Document is navigating, try again
+                current = start;
+            }
+            // current < start means a new document replaced the old one
+            if (current < start || current - start >= millis) {
+                return true;
+            }
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parse a countdown like "02:15:33", "2d 04h 10m 05s" or "15:33" into seconds.
+     * Returns -1 when the text has no time in it.
+     */
+    public static long parseCountdownSeconds(String text) {
+        if (text == null) {
+            return -1;
+        }
+        List<Long> parts = new ArrayList<>();
+        Matcher matcher = DIGITS.matcher(text);
+        while (matcher.find()) {
+            parts.add(Long.parseLong(matcher.group()));
+        }
+        if (parts.size() < 2 || parts.size() > 4) {
+            return -1;
+        }
+        long[] unitSeconds = {86400, 3600, 60, 1};
+        long total = 0;
+        int offset = 4 - parts.size();
+        for (int i = 0; i < parts.size(); i++) {
+            total += parts.get(i) * unitSeconds[offset + i];
+        }
+        return total;
+    }
+
+    private static double pageNow(JavascriptExecutor js) {
+        return ((Number) js.executeScript("return performance.now();")).doubleValue();
+    }
+}
@@ -9,10 +9,8 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 import io.github.bonigarcia.wdm.WebDriverManager;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
-import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.IOException;
@@ -23,12 +21,13 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 
-public class VisaSupportTest {
+public class VisaSupportTest implements SuiteTest {
 
     private WebDriver driver;
     private WebDriverWait wait;
     private WebDriverWait shortWait;
     private JavascriptExecutor js;
+    private PageActions actions;
 
     private static final String SITE_URL = "https://studyleo.com/en";
 
@@ -42,32 +41,37 @@ public class VisaSupportTest {
     private String screenshotFolder;
 
     // Locators
-    private By acceptCookiesButton = By.cssSelector("button[data-testid='cookie-banner-accept-button']");
-    private By visaSupportLink = By.cssSelector("a[data-slot='navigation-menu-link'][href='/en/study-visa-support-in-turkey']");
+    private By acceptCookiesButton = LocatorRegistry.COOKIE_ACCEPT;
+    private By visaSupportLink = LocatorRegistry.NAV_VISA_SUPPORT;
     
     // Search box
-    private By searchBox = By.cssSelector("input[data-slot='input'][aria-label='Search Countries']");
+    private By searchBox = LocatorRegistry.VISA_SEARCH_BOX;
     
     // Result counter
-    private By resultCounter = By.cssSelector("span.text-xs.text-black-text.opacity-80.font-medium");
+    private By resultCounter = LocatorRegistry.VISA_RESULT_COUNTER;
     
     // Reset button - JavaScript click required
-    private By resetButton = By.xpath("//button[@data-slot='button']//span[normalize-space(text())='Reset']");
+    private By resetButton = LocatorRegistry.RESET_BUTTON;
     
     // Country card
-    private By countryCardLocator = By.xpath("/html/body/main/div/section/div/div[2]/ul/li/a[1]");
+    private By countryCardLocator = LocatorRegistry.VISA_COUNTRY_CARD;
     
     // Pagination
-    private By paginationButtons = By.cssSelector("a[data-slot='pagination-link']");
-    private By nextPageButton = By.cssSelector("a[data-slot='pagination-link'][aria-label='Go to next page']");
+    private By paginationButtons = LocatorRegistry.PAGINATION_LINKS;
+    private By nextPageButton = LocatorRegistry.PAGINATION_NEXT;
     
     // Per Page dropdown
-    private By perPageDropdown = By.cssSelector("button[type='button'][aria-labelledby='per-page-options']");
+    private By perPageDropdown = LocatorRegistry.VISA_PER_PAGE;
 
     // Test statistics
     private int totalTests = 0;
     private int passedTests = 0;
     private int failedTests = 0;
+    private final CaseRunner cases = new CaseRunner(this, (total, passed, failed) -> {
+        totalTests += total;
+        passedTests += passed;
+        failedTests += failed;
+    }, this::log, this::logError, this::recycleDriver);
     private int screenshotCount = 0;
 
     private boolean sharedDriver = false;
@@ -82,12 +86,13 @@ public class VisaSupportTest {
         this.sharedDriver = sharedDriver;
         if (driver != null && sharedDriver) {
             this.driver = driver;
-            this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-            this.shortWait = new WebDriverWait(driver, Duration.ofSeconds(5));
+            this.wait = new AdaptiveWait(driver, Duration.ofSeconds(10));
+            this.shortWait = new AdaptiveWait(driver, Duration.ofSeconds(5));
             this.js = (JavascriptExecutor) driver;
         } else {
             initializeDriver();
         }
+        this.actions = new PageActions(this.driver);
         initializeLog();
     }
 
@@ -100,11 +105,13 @@ public class VisaSupportTest {
         options.addArguments("--disable-blink-features=AutomationControlled");
 
         driver = new ChromeDriver(options);
+        ResourceTracker.driverOpened(driver);
+        SessionState.inject(driver);
         driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(10));
-        driver.manage().timeouts().implicitlyWait(Duration.ofMillis(500));
+        driver.manage().timeouts().implicitlyWait(LocatorRegistry.implicitWait());
 
-        wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        shortWait = new WebDriverWait(driver, Duration.ofSeconds(5));
+        wait = new AdaptiveWait(driver, Duration.ofSeconds(10));
+        shortWait = new AdaptiveWait(driver, Duration.ofSeconds(5));
         js = (JavascriptExecutor) driver;
     }
 
@@ -152,6 +159,7 @@ public class VisaSupportTest {
     }
 
     private void logError(String message) {
+        cases.observe(message);
         String errorMsg = "❌ " + message;
         System.err.println(errorMsg);
         logMessages.add(errorMsg);
@@ -160,13 +168,14 @@ public class VisaSupportTest {
     private String takeScreenshot(String fileName) {
         try {
             TakesScreenshot screenshot = (TakesScreenshot) driver;
-            File sourceFile = screenshot.getScreenshotAs(OutputType.FILE);
+            // BYTES instead of FILE: no Selenium temp file left behind
+            byte[] png = screenshot.getScreenshotAs(OutputType.BYTES);
 
             String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("HHmmss"));
             String screenshotName = fileName + "_" + timestamp + ".png";
             String destinationPath = screenshotFolder + "/" + screenshotName;
 
-            Files.copy(sourceFile.toPath(), Paths.get(destinationPath), StandardCopyOption.REPLACE_EXISTING);
+            Files.write(Paths.get(destinationPath), png);
 
             screenshotCount++;
             log("📸 Screenshot saved: " + destinationPath);
@@ -181,7 +190,7 @@ public class VisaSupportTest {
 
     private void sleep(int milliseconds) {
         try {
-            Thread.sleep(milliseconds);
+            Thread.sleep(TimeBudget.clampMillis(milliseconds));
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
@@ -205,9 +214,8 @@ public class VisaSupportTest {
      */
     private int getShowingCount() {
         try {
-            List<WebElement> spans = driver.findElements(resultCounter);
-            for (WebElement span : spans) {
-                String text = span.getText().trim();
+            // One snapshot instead of a getText() round trip per span
+            for (String text : DomSnapshot.capture(driver).texts(resultCounter)) {
                 if (text.contains("Showing") && text.contains("of")) {
                     // "Showing 20 of 190" -> extract 20
                     String[] parts = text.split(" ");
@@ -229,10 +237,8 @@ public class VisaSupportTest {
      */
     private int getMaxPageNumber() {
         try {
-            List<WebElement> paginationLinks = driver.findElements(paginationButtons);
             int maxPage = 0;
-            for (WebElement link : paginationLinks) {
-                String text = link.getText().trim();
+            for (String text : DomSnapshot.capture(driver).texts(paginationButtons)) {
                 if (text.matches("\\d+")) {
                     int pageNum = Integer.parseInt(text);
                     if (pageNum > maxPage) {
@@ -255,9 +261,7 @@ public class VisaSupportTest {
             // Find the button containing the Reset span
             WebElement resetSpan = wait.until(ExpectedConditions.presenceOfElementLocated(resetButton));
             WebElement parentButton = resetSpan.findElement(By.xpath("./ancestor::button"));
-            js.executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", parentButton);
-            sleep(300);
-            js.executeScript("arguments[0].click();", parentButton);
+            actions.forceClick(parentButton);
             log("   ✅ Reset button clicked");
             sleep(500);
         } catch (Exception e) {
@@ -294,10 +298,7 @@ public class VisaSupportTest {
         // Type "Afghanistan" in search box
         log("   Searching for: \"Afghanistan\"");
         WebElement searchInput = wait.until(ExpectedConditions.presenceOfElementLocated(searchBox));
-        js.executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", searchInput);
-        sleep(300);
-        searchInput.clear();
-        searchInput.sendKeys("Afghanistan");
+        actions.type(searchInput, "Afghanistan");
         sleep(1500); // Wait for results to filter
         
         // Get new showing count - should be 1
@@ -336,9 +337,7 @@ public class VisaSupportTest {
             log("   📎 Country URL: " + countryUrl);
             
             // Click country card
-            js.executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", countryCard);
-            sleep(300);
-            js.executeScript("arguments[0].click();", countryCard);
+            actions.click(countryCard);
             sleep(2000);
             
             // Verify page loaded
@@ -380,9 +379,7 @@ public class VisaSupportTest {
             // Click Next page button
             log("   ⏭️ Clicking Next page button...");
             WebElement nextBtn = wait.until(ExpectedConditions.presenceOfElementLocated(nextPageButton));
-            js.executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", nextBtn);
-            sleep(300);
-            js.executeScript("arguments[0].click();", nextBtn);
+            actions.click(nextBtn);
             sleep(1500);
             log("   ✅ Navigated to page 2");
             
@@ -396,9 +393,7 @@ public class VisaSupportTest {
             for (WebElement link : paginationLinks) {
                 String text = link.getText().trim();
                 if (text.equals(String.valueOf(lastPageNum))) {
-                    js.executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", link);
-                    sleep(300);
-                    js.executeScript("arguments[0].click();", link);
+                    actions.click(link);
                     break;
                 }
             }
@@ -431,15 +426,13 @@ public class VisaSupportTest {
             
             // Click dropdown to open
             log("   🖱️ Opening Per Page dropdown...");
-            js.executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", perPageBtn);
-            sleep(300);
-            js.executeScript("arguments[0].click();", perPageBtn);
+            actions.click(perPageBtn);
             sleep(500);
             
             // Find and click "50" option
             log("   ✓ Selecting 50...");
             // Look for option containing "50"
-            List<WebElement> options = driver.findElements(By.cssSelector("[role='option'], [role='menuitem'], li"));
+            List<WebElement> options = driver.findElements(LocatorRegistry.VISA_PER_PAGE_OPTIONS);
             boolean found = false;
             
             for (WebElement option : options) {
@@ -465,7 +458,7 @@ public class VisaSupportTest {
             sleep(1500);
             
             // Verify selection - button should now show "50"
-            perPageBtn = driver.findElement(perPageDropdown);
+            perPageBtn = LocatorRegistry.await(driver, perPageDropdown);
             String newText = perPageBtn.getText();
             log("   📊 New per page: " + newText);
             
@@ -487,22 +480,44 @@ public class VisaSupportTest {
 
     // ==================== MAIN TEST FLOW ====================
 
+    /**
+     * Replace an unhealthy browser session and reopen the page under test
+     */
+    private void recycleDriver(String reason) {
+        log("♻️ Browser unhealthy (" + reason + ") - recycling session");
+        driver = BrowserHealth.recycle(driver, getTestClassName(), reason, true);
+        wait = new AdaptiveWait(driver, Duration.ofSeconds(10));
+        shortWait = new AdaptiveWait(driver, Duration.ofSeconds(5));
+        js = (JavascriptExecutor) driver;
+        actions = new PageActions(driver);
+        openVisaSupportPageDirect();
+    }
+
     public void run() {
         try {
+            if (CircuitBreaker.isOpen()) {
+                logError("SKIPPED " + getTestClassName() + " - " + CircuitBreaker.getReason());
+                return;
+            }
+
             log("\n" + "█".repeat(70));
             log("█  🚀 STARTING AUTOMATED VISA SUPPORT TESTING" + " ".repeat(24) + "█");
             log("█".repeat(70) + "\n");
 
-            openWebsite();
-            acceptCookies();
-            navigateToVisaSupportPage();
-            sleep(1000);
+            if (SuiteConfig.isDirectNavigation()) {
+                openVisaSupportPageDirect();
+            } else {
+                openWebsite();
+                acceptCookies();
+                navigateToVisaSupportPage();
+                sleep(1000);
+            }
 
             // Run all tests
-            testSearchBox();
-            testCountryLink();
-            testPagination();
-            testPerPageDropdown();
+            cases.run("testSearchBox", this::testSearchBox);
+            cases.run("testCountryLink", this::testCountryLink);
+            cases.run("testPagination", this::testPagination);
+            cases.run("testPerPageDropdown", this::testPerPageDropdown);
 
             printSummary();
 
@@ -520,6 +535,7 @@ public class VisaSupportTest {
         log("   Total Tests: " + totalTests);
         log("   ✅ Passed: " + passedTests);
         log("   ❌ Failed: " + failedTests);
+        log("   ⏭️ Skipped: " + cases.getSkipped());
 
         double successRate = totalTests > 0
                 ? (passedTests * 100.0 / totalTests)
@@ -537,12 +553,23 @@ public class VisaSupportTest {
         log("✅ Website opened\n");
     }
 
+    private void openVisaSupportPageDirect() {
+        log("🌐 Opening directly: " + SITE_URL + "/study-visa-support-in-turkey");
+        SiteBootstrap.openDirect(driver, "/study-visa-support-in-turkey");
+        log("✅ Visa Support page opened\n");
+    }
+
     private void acceptCookies() {
+        if (SessionState.isApplied(driver)) {
+            log("🍪 Cookie consent restored from session snapshot\n");
+            return;
+        }
         log("🍪 Accepting cookies...");
         try {
             if (isElementPresent(acceptCookiesButton)) {
                 WebElement cookieBtn = driver.findElement(acceptCookiesButton);
                 js.executeScript("arguments[0].click();", cookieBtn);
+                SessionState.capture(driver);
                 log("✅ Cookies accepted\n");
             }
         } catch (Exception e) {
@@ -551,25 +578,25 @@ public class VisaSupportTest {
     }
 
     private boolean isElementPresent(By locator) {
-        try {
-            shortWait.until(ExpectedConditions.presenceOfElementLocated(locator));
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return LocatorRegistry.isPresent(driver, locator);
     }
 
     public void close() {
         if (!sharedDriver && driver != null) {
             log("\n\uD83D\uDD1A Closing browser...");
             driver.quit();
+            ResourceTracker.driverClosed(driver);
         }
+        // Log file is already written - drop the in-memory copy
+        logMessages.clear();
     }
 
     public int getTotalTests() { return totalTests; }
     public int getPassedTests() { return passedTests; }
     public int getFailedTests() { return failedTests; }
+    public int getSkippedTests() { return cases.getSkipped(); }
     public String getTestClassName() { return this.getClass().getSimpleName(); }
+    public WebDriver getDriver() { return driver; }
 
     public static void main(String[] args) {
         VisaSupportTest test = new VisaSupportTest();